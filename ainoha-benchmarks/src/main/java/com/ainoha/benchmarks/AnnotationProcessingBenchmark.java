@@ -0,0 +1,66 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.internal.FxmlViewHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processing of the framework annotations of a controller with many members
+ * ({@code FxmlViewHelper.processControllerAnnotations}, which is executed for every view loading).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationProcessingBenchmark {
+
+    private final ManyFieldsController controller = new ManyFieldsController();
+
+    private MethodHandle processControllerAnnotations;
+
+    @Setup
+    public void setUp() throws Exception {
+        Method method = FxmlViewHelper.class.getDeclaredMethod("processControllerAnnotations", Object.class);
+        method.setAccessible(true);
+        processControllerAnnotations = MethodHandles.lookup().unreflect(method);
+    }
+
+    @Benchmark
+    public int processControllerAnnotations() throws Throwable {
+        processControllerAnnotations.invokeExact((Object) controller);
+        return controller.getPostInitializeCalls();
+    }
+}
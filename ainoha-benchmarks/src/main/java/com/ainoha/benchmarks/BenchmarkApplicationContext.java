@@ -0,0 +1,61 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.ApplicationContext;
+import com.ainoha.core.metrics.StartupTimeline;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+
+/**
+ * Creates the application context used by the benchmarks without launching an application (see
+ * {@link ApplicationContext#startApplication(Class, String...)}). Its language resources are
+ * {@code com.ainoha.benchmarks.lang.messages}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class BenchmarkApplicationContext {
+
+    static final String LANG_RESOURCES = "com.ainoha.benchmarks.lang.messages";
+
+    private BenchmarkApplicationContext() {}
+
+    /**
+     * Creates the application context, if it has not been created yet, and sets it as the current one.
+     *
+     * @return Current application context
+     */
+    static synchronized ApplicationContext install() throws ReflectiveOperationException {
+        Field contextField = ApplicationContext.class.getDeclaredField("context");
+        contextField.setAccessible(true);
+
+        ApplicationContext context = (ApplicationContext) contextField.get(null);
+        if (context == null) {
+            Constructor<ApplicationContext> constructor = ApplicationContext.class.getDeclaredConstructor(
+                    Class.class, String.class, String.class, String.class, Class[].class, StartupTimeline.class,
+                    String[].class);
+            constructor.setAccessible(true);
+
+            context = constructor.newInstance(BenchmarkApplicationContext.class, LANG_RESOURCES, "", "",
+                                              new Class[0], new StartupTimeline(), new String[0]);
+            contextField.set(null, context);
+        }
+
+        return context;
+    }
+}
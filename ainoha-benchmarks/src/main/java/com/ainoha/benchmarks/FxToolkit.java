@@ -0,0 +1,67 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Starts the JavaFX runtime once per benchmark JVM and allows to execute code on the JavaFX Application Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class FxToolkit {
+
+    private static boolean started;
+
+    private FxToolkit() {}
+
+    /**
+     * Starts the JavaFX runtime, if it has not been started yet.
+     */
+    static synchronized void start() throws InterruptedException {
+        if (started) {
+            return;
+        }
+
+        CountDownLatch startup = new CountDownLatch(1);
+        Platform.startup(startup::countDown);
+        Platform.setImplicitExit(false);
+        startup.await();
+        started = true;
+    }
+
+    /**
+     * Executes {@code task} on the JavaFX Application Thread and waits for its result.
+     */
+    static <T> T runAndWait(Callable<T> task) throws InterruptedException, ExecutionException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        return result.get();
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.annotation.FxmlController;
+import com.ainoha.core.validators.InputValidator;
+import com.ainoha.internal.annotation.processors.AnnotationProcessorHub;
+import javafx.event.Event;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation done by {@code @}{@link InputValidator} each time a character is typed into a text field which already
+ * contains a large text. The text field is not displayed, so the typed character is never inserted and each
+ * invocation validates the same text.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputValidatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int textLength;
+
+    private ValidatedInputController controller;
+    private KeyEvent keyTyped;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxToolkit.start();
+
+        controller = FxToolkit.runAndWait(ValidatedInputController::new);
+        controller.input.setText("a".repeat(textLength));
+        controller.input.positionCaret(textLength);
+
+        AnnotationProcessorHub.forAnnotationClass(InputValidator.class)
+                .process(ValidatedInputController.class.getDeclaredField("input"), controller);
+
+        keyTyped = new KeyEvent(KeyEvent.KEY_TYPED, "b", "", KeyCode.UNDEFINED, false, false, false, false);
+    }
+
+    @Benchmark
+    public void typeCharacter() {
+        Event.fireEvent(controller.input, keyTyped);
+    }
+
+    @FxmlController(fxmlPath = "views/SyntheticView10.fxml")
+    public static class ValidatedInputController {
+        @InputValidator(pattern = "[a-z]*", maxLength = 200_000)
+        private final TextField input = new TextField();
+    }
+}
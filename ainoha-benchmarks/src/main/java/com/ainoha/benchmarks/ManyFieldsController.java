@@ -0,0 +1,117 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.annotation.FxmlController;
+import com.ainoha.core.annotation.PostInitialize;
+import com.ainoha.core.annotation.ViewParams;
+import com.ainoha.core.annotation.ViewStage;
+import javafx.stage.Stage;
+
+/**
+ * Controller with many members, most of them not related with the framework, as a typical large view controller.
+ * Its framework annotated members are at the end, so lookups go through all the fields.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@FxmlController(fxmlPath = "views/SyntheticView10.fxml")
+public class ManyFieldsController {
+
+    private String field00;
+    private String field01;
+    private String field02;
+    private String field03;
+    private String field04;
+    private String field05;
+    private String field06;
+    private String field07;
+    private String field08;
+    private String field09;
+    private String field10;
+    private String field11;
+    private String field12;
+    private String field13;
+    private String field14;
+    private String field15;
+    private String field16;
+    private String field17;
+    private String field18;
+    private String field19;
+    private String field20;
+    private String field21;
+    private String field22;
+    private String field23;
+    private String field24;
+    private String field25;
+    private String field26;
+    private String field27;
+    private String field28;
+    private String field29;
+    private String field30;
+    private String field31;
+    private String field32;
+    private String field33;
+    private String field34;
+    private String field35;
+    private String field36;
+    private String field37;
+    private String field38;
+    private String field39;
+    private String field40;
+    private String field41;
+    private String field42;
+    private String field43;
+    private String field44;
+    private String field45;
+    private String field46;
+    private String field47;
+    private String field48;
+    private String field49;
+    private String field50;
+    private String field51;
+    private String field52;
+    private String field53;
+    private String field54;
+    private String field55;
+    private String field56;
+    private String field57;
+    private String field58;
+    private String field59;
+
+    @ViewStage
+    private Stage stage;
+
+    @ViewParams
+    private Object params;
+
+    private int postInitializeCalls;
+
+    public ManyFieldsController() {}
+
+    public ManyFieldsController(Stage stage) {
+        this.stage = stage;
+    }
+
+    @PostInitialize
+    private void postInitialize() {
+        postInitializeCalls++;
+    }
+
+    int getPostInitializeCalls() {
+        return postInitializeCalls;
+    }
+}
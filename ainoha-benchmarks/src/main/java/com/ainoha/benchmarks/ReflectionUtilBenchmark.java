@@ -0,0 +1,68 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.annotation.ViewParams;
+import com.ainoha.core.annotation.ViewStage;
+import com.ainoha.internal.utils.ReflectionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reflection utilities used for every view loading: dependency injection
+ * ({@link ReflectionUtil#setValueInAnnotatedFields}), controller instantiation ({@link ReflectionUtil#newInstanceOf})
+ * and controller dependencies lookup ({@link ReflectionUtil#getFirstAnnotatedFieldValueFromController}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionUtilBenchmark {
+
+    private final ManyFieldsController controller = new ManyFieldsController();
+    private final Object params = new Object();
+
+    @Benchmark
+    public ManyFieldsController setValueInAnnotatedFields() {
+        ReflectionUtil.setValueInAnnotatedFields(controller, ViewParams.class, params);
+        return controller;
+    }
+
+    @Benchmark
+    public Object newInstanceOf() throws Exception {
+        return ReflectionUtil.newInstanceOf(ManyFieldsController.class);
+    }
+
+    @Benchmark
+    public Optional<Object> getFirstAnnotatedFieldValueFromController() throws Exception {
+        return ReflectionUtil.getFirstAnnotatedFieldValueFromController(controller, ViewStage.class);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.ApplicationContext;
+import com.ainoha.internal.utils.StageUtil;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Window title resolution ({@link StageUtil#setStageTitle}), from a literal title and from a language resources key.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StageTitleBenchmark {
+
+    private ApplicationContext context;
+    private Stage stage;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxToolkit.start();
+        context = BenchmarkApplicationContext.install();
+        stage = FxToolkit.runAndWait(Stage::new);
+    }
+
+    @Benchmark
+    public String titleFromKey() {
+        StageUtil.setStageTitle(context, stage, "title", null);
+        return stage.getTitle();
+    }
+
+    @Benchmark
+    public String literalTitle() {
+        StageUtil.setStageTitle(context, stage, "title", "Literal title");
+        return stage.getTitle();
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.internal.FxmlViewHelper;
+import javafx.css.Stylesheet;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Showing a synthetic view of 100 rows with a large stylesheet, with the binary stylesheet substitution enabled
+ * ({@code binary.css=true}, the {@code .bss} version is loaded) and disabled ({@code binary.css=false}, the
+ * {@code .css} file is parsed). JavaFX keeps the stylesheets already loaded, so every invocation uses a new copy of
+ * the stylesheet files in order to measure the first show of the view.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StylesheetLoadingBenchmark {
+
+    private static final int RULES = 5000;
+
+    @Param({"true", "false"})
+    public String binaryCss;
+
+    private Path stylesheetDir;
+    private Path css;
+    private Path bss;
+    private int copies;
+    private Class<?> controllerClass;
+    private Stage stage;
+    private String stylesheetURL;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // Read by JavaFX each time a stylesheet is loaded
+        System.setProperty("binary.css", binaryCss);
+
+        FxToolkit.start();
+        BenchmarkApplicationContext.install();
+        controllerClass = SyntheticViews.controllerFor(100);
+        stage = FxToolkit.runAndWait(Stage::new);
+
+        stylesheetDir = Files.createTempDirectory("ainoha-css");
+        css = stylesheetDir.resolve("large.css");
+        bss = stylesheetDir.resolve("large.bss");
+        Files.writeString(css, largeStylesheet(), StandardCharsets.UTF_8);
+        Stylesheet.convertToBinary(css.toFile(), bss.toFile());
+    }
+
+    @Setup(Level.Invocation)
+    public void copyStylesheet() throws Exception {
+        String name = "large" + copies++;
+        Files.copy(css, stylesheetDir.resolve(name + ".css"));
+        Files.copy(bss, stylesheetDir.resolve(name + ".bss"));
+        stylesheetURL = stylesheetDir.resolve(name + ".css").toUri().toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FxToolkit.runAndWait(() -> {
+            stage.hide();
+            return null;
+        });
+    }
+
+    @Benchmark
+    public Parent showViewWithLargeStylesheet() throws Exception {
+        Parent root = FxmlViewHelper.loadFxmlViewAsParent(controllerClass.getConstructor().newInstance(), true);
+
+        return FxToolkit.runAndWait(() -> {
+            root.getStylesheets().add(stylesheetURL);
+            stage.setScene(new Scene(root));
+            stage.show();
+            stage.hide();
+
+            // The stylesheet is released by JavaFX, so the copies do not accumulate in memory
+            root.getStylesheets().clear();
+            stage.setScene(null);
+            return root;
+        });
+    }
+
+    /**
+     * @return Stylesheet with {@link #RULES} rules, some of them matching the nodes of the synthetic views
+     */
+    private static String largeStylesheet() {
+        StringBuilder stylesheet = new StringBuilder();
+        for (int i = 0; i < RULES; i++) {
+            String color = String.format("#%06x", (i * 2654435761L) & 0xFFFFFF);
+            stylesheet.append(".row").append(i).append(" > .label, .row").append(i).append(" .text-field:focused {\n")
+                      .append("    -fx-text-fill: ").append(color).append(";\n")
+                      .append("    -fx-background-color: linear-gradient(to bottom, ").append(color)
+                      .append(", derive(").append(color).append(", -20%));\n")
+                      .append("    -fx-padding: 2 4 2 4;\n")
+                      .append("}\n");
+        }
+
+        // Rules matching every row
+        stylesheet.append(".label { -fx-font-size: 12px; }\n")
+                  .append(".text-field { -fx-pref-column-count: 12; }\n")
+                  .append(".button:hover { -fx-underline: true; }\n");
+
+        return stylesheet.toString();
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.annotation.FxmlController;
+import com.ainoha.core.annotation.ViewStage;
+import javafx.stage.Stage;
+
+/**
+ * Controllers of the synthetic views used by the benchmarks. Each view ({@code views/SyntheticView<rows>.fxml}) has
+ * the given number of rows, and each row has a {@link javafx.scene.control.Label}, a
+ * {@link javafx.scene.control.TextField} and a {@link javafx.scene.control.Button}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class SyntheticViews {
+
+    private SyntheticViews() {}
+
+    /**
+     * @param rows Number of rows of the view (10, 100 or 500)
+     *
+     * @return Controller class of the view
+     */
+    static Class<?> controllerFor(int rows) {
+        switch (rows) {
+            case 10: return Rows10.class;
+            case 100: return Rows100.class;
+            case 500: return Rows500.class;
+            default: throw new IllegalArgumentException("There is no synthetic view with " + rows + " rows");
+        }
+    }
+
+    @FxmlController(fxmlPath = "views/SyntheticView10.fxml", titleKey = "title")
+    public static class Rows10 {
+        @ViewStage
+        private Stage stage;
+    }
+
+    @FxmlController(fxmlPath = "views/SyntheticView100.fxml", titleKey = "title")
+    public static class Rows100 {
+        @ViewStage
+        private Stage stage;
+    }
+
+    @FxmlController(fxmlPath = "views/SyntheticView500.fxml", titleKey = "title")
+    public static class Rows500 {
+        @ViewStage
+        private Stage stage;
+    }
+}
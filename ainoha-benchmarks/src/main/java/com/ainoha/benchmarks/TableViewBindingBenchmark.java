@@ -0,0 +1,128 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.core.annotation.FxmlController;
+import com.ainoha.core.annotation.TableViewBinding;
+import com.ainoha.internal.annotation.processors.AnnotationProcessorHub;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table bindings created by {@code @}{@link TableViewBinding}: the binding of the table columns, and the cell values
+ * lookup done through the {@link javafx.scene.control.cell.PropertyValueFactory} of each column (what the table does
+ * while rendering its rows).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TableViewBindingBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private TableBindingController controller;
+    private Field tableField;
+
+    @Setup
+    public void setUp() throws Exception {
+        FxToolkit.start();
+
+        controller = FxToolkit.runAndWait(TableBindingController::new);
+        for (int i = 0; i < rows; i++) {
+            controller.table.getItems().add(new Item("Item " + i, i));
+        }
+
+        tableField = TableBindingController.class.getDeclaredField("table");
+        AnnotationProcessorHub.forAnnotationClass(TableViewBinding.class).process(tableField, controller);
+    }
+
+    @Benchmark
+    public TableView<Item> bindColumns() {
+        AnnotationProcessorHub.forAnnotationClass(TableViewBinding.class).process(tableField, controller);
+        return controller.table;
+    }
+
+    @Benchmark
+    public void cellValues(Blackhole blackhole) {
+        TableView<Item> table = controller.table;
+        for (Item item : table.getItems()) {
+            for (TableColumn<Item, ?> column : table.getColumns()) {
+                ObservableValue<?> value = column.getCellValueFactory()
+                        .call(new TableColumn.CellDataFeatures(table, column, item));
+                blackhole.consume(value);
+            }
+        }
+    }
+
+    @FxmlController(fxmlPath = "views/SyntheticView10.fxml")
+    public static class TableBindingController {
+        @TableViewBinding
+        private final TableView<Item> table = new TableView<>();
+
+        public TableBindingController() {
+            TableColumn<Item, String> name = new TableColumn<>("Name");
+            name.setId("name");
+
+            TableColumn<Item, Number> amount = new TableColumn<>("Amount");
+            amount.setId("amount");
+
+            table.getColumns().addAll(name, amount);
+        }
+    }
+
+    public static class Item {
+        private final SimpleStringProperty name;
+        private final SimpleIntegerProperty amount;
+
+        public Item(String name, int amount) {
+            this.name = new SimpleStringProperty(name);
+            this.amount = new SimpleIntegerProperty(amount);
+        }
+
+        public SimpleStringProperty nameProperty() {
+            return name;
+        }
+
+        public SimpleIntegerProperty amountProperty() {
+            return amount;
+        }
+    }
+}
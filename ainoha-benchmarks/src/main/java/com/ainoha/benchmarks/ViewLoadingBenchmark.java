@@ -0,0 +1,89 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.benchmarks;
+
+import com.ainoha.internal.FxmlViewHelper;
+import javafx.scene.Parent;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of synthetic views of different sizes, through {@link FxmlViewHelper#loadFxmlViewAsParent(Object, boolean)}
+ * (node tree only) and {@link FxmlViewHelper#showFxmlView} (node tree, Stage setup and window display).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewLoadingBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int rows;
+
+    private Class<?> controllerClass;
+    private Stage stage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        FxToolkit.start();
+        BenchmarkApplicationContext.install();
+
+        controllerClass = SyntheticViews.controllerFor(rows);
+        stage = FxToolkit.runAndWait(Stage::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FxToolkit.runAndWait(() -> {
+            stage.hide();
+            return null;
+        });
+    }
+
+    @Benchmark
+    public Parent loadFxmlViewAsParent() throws Exception {
+        return FxmlViewHelper.loadFxmlViewAsParent(controllerClass.getConstructor().newInstance(), true);
+    }
+
+    @Benchmark
+    public Object showFxmlView() throws Exception {
+        return FxToolkit.runAndWait(() -> {
+            Object controller = FxmlViewHelper.showFxmlView(controllerClass, false, stage, null, null, null, null,
+                                                            true, false, false, null, null, false);
+            stage.hide();
+            return controller;
+        });
+    }
+}
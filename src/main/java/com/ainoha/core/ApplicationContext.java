@@ -18,15 +18,54 @@ package com.ainoha.core;
 import com.ainoha.core.annotation.FxApplication;
 import com.ainoha.core.exception.ApplicationContextNotFoundException;
 import com.ainoha.core.exception.ApplicationStartupException;
+import com.ainoha.core.metrics.CacheStats;
+import com.ainoha.core.metrics.FrameStats;
+import com.ainoha.core.metrics.LatencyHistogram;
+import com.ainoha.core.metrics.StartupTimeline;
+import com.ainoha.core.metrics.ViewReloadResult;
+import com.ainoha.internal.BackgroundTasks;
+import com.ainoha.internal.FrameMonitor;
+import com.ainoha.internal.FxThreadWatchdog;
+import com.ainoha.internal.FxmlViewHelper;
+import com.ainoha.internal.HotReloader;
+import com.ainoha.internal.InputLatencyMonitor;
+import com.ainoha.internal.ViewBatchReloader;
+import com.ainoha.internal.ViewLatencies;
+import com.ainoha.internal.ViewPreloader;
+import com.ainoha.internal.index.ControllerIndex;
+import com.ainoha.internal.jmx.FrameworkMXBeanImpl;
+import com.ainoha.internal.jfr.FrameworkEvents;
+import com.ainoha.internal.jfr.ResourceBundleLoadEvent;
+import com.ainoha.internal.lang.CompiledLanguageResources;
 import com.ainoha.internal.utils.ReflectionUtil;
+import com.ainoha.internal.utils.SystemProperties;
 import javafx.application.Application;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.StringBinding;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.application.Platform;
 import javafx.scene.image.Image;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,15 +81,28 @@ public final class ApplicationContext {
 
     private static ApplicationContext context;
 
+    /**
+     * Language resources loaded so far, as {@code baseName (locale)}
+     */
+    private static final Set<String> loadedResourceBundles = ConcurrentHashMap.newKeySet();
+
     /**
      * Package of language resources + common filename of {@code .properties} (i.e. resources.lang.language,
      * being 'language' the common filename: language_en.properties, language_es.properties)
      */
     private final String LANG_RESOURCES;
+    /**
+     * Class loader of the application, used to find the language resources compiled at build time
+     */
+    private final ClassLoader appClassLoader;
     /**
      * Language resources for the language (defined by {@link Locale#getDefault()})
      */
     private ResourceBundle resourceBundle;
+    /**
+     * Bootstrap loading of {@link ApplicationContext#resourceBundle}. Is {@code null} once completed
+     */
+    private CompletableFuture<ResourceBundle> resourceBundleFuture;
 
     /**
      * Current application {@link Locale}. Could be updated when the method {@link ApplicationContext#getResourceBundle()}
@@ -58,6 +110,20 @@ public final class ApplicationContext {
      */
     private Locale currentResourcesLocale;
 
+    /**
+     * Application locale. The texts of the showing views are updated when it changes
+     */
+    private final ReadOnlyObjectWrapper<Locale> locale = new ReadOnlyObjectWrapper<>(this, "locale", Locale.getDefault());
+    /**
+     * Localized texts bindings, by language resource key
+     */
+    private final Map<String, StringBinding> localizedTexts = new ConcurrentHashMap<>();
+
+    /**
+     * Messages (current language resources merged with the default language resources) by locale
+     */
+    private final Map<Locale, MessageSource> messageSources = new ConcurrentHashMap<>();
+
     /**
      * Default language (i.e. 'en' for english, 'es' for spanish, etc.)
      */
@@ -66,6 +132,10 @@ public final class ApplicationContext {
      * Language resources for the default language (defined by {@link ApplicationContext#DEFAULT_LOCALE_LANG})
      */
     private ResourceBundle defaultResourceBundle;
+    /**
+     * Bootstrap loading of {@link ApplicationContext#defaultResourceBundle}. Is {@code null} once completed
+     */
+    private CompletableFuture<ResourceBundle> defaultResourceBundleFuture;
 
     /**
      * Application image path relative to the CLASSPATH (ej. /com/my/app/icon.png)
@@ -75,6 +145,18 @@ public final class ApplicationContext {
      * Application image
      */
     private Image appImage;
+    /**
+     * Bootstrap decoding of {@link ApplicationContext#appImage}. Is {@code null} once completed
+     */
+    private CompletableFuture<Image> appImageFuture;
+    /**
+     * Maximum time, in milliseconds, to wait for a bootstrap task result
+     */
+    private final long bootstrapTimeoutMillis;
+    /**
+     * Application startup timeline
+     */
+    private final StartupTimeline startupTimeline;
     /**
      * Applications command-line arguments
      */
@@ -90,45 +172,161 @@ public final class ApplicationContext {
      *                             language_es.properties)
      * @param defaultLang          Default language (i.e. 'en' for english, 'es' for spanish, etc.)
      * @param appImageResourcePath Application image path relative to the CLASSPATH (ej. /com/my/app/icon.png)
+     * @param bootstrapTasks       Additional tasks to execute in background while the application starts
+     * @param startupTimeline      Application startup timeline
      * @param appParams            Applications command-line arguments
      */
-    private ApplicationContext(final Class appClass, final String langResources, final String defaultLang, final String appImageResourcePath, String... appParams) {
+    private ApplicationContext(final Class appClass, final String langResources, final String defaultLang, final String appImageResourcePath,
+                               final Class<? extends Runnable>[] bootstrapTasks, final StartupTimeline startupTimeline, String... appParams) {
         LANG_RESOURCES = langResources;
+        this.appClassLoader = appClass.getClassLoader();
         DEFAULT_LOCALE_LANG = defaultLang;
         this.appParams = appParams;
+        this.startupTimeline = startupTimeline;
+        this.bootstrapTimeoutMillis = SystemProperties.getLong(SystemProperties.BOOTSTRAP_TIMEOUT, 30_000);
 
+        // Language resources and application image are loaded in background, while the JavaFX runtime starts
         if (this.LANG_RESOURCES != null && !this.LANG_RESOURCES.isBlank()) {
             currentResourcesLocale = Locale.getDefault();
-            try {
-                resourceBundle = ResourceBundle.getBundle(LANG_RESOURCES, currentResourcesLocale);
-            } catch (MissingResourceException e) {
-                LOGGER.severe("Error loading the language resource for the current locale: " + LANG_RESOURCES + "_"
-                        + currentResourcesLocale.getLanguage());
-            }
-
-            if (this.DEFAULT_LOCALE_LANG != null && !this.DEFAULT_LOCALE_LANG.isBlank()) {
+            final Locale locale = currentResourcesLocale;
+            resourceBundleFuture = BackgroundTasks.supply(() -> startupTimeline.record("Language resources loading", () -> {
                 try {
-                    defaultResourceBundle = ResourceBundle.getBundle(LANG_RESOURCES, new Locale(DEFAULT_LOCALE_LANG));
+                    return loadResourceBundle(appClassLoader, LANG_RESOURCES, locale);
                 } catch (MissingResourceException e) {
-                    LOGGER.severe("Error loading default language resource: " + LANG_RESOURCES + "_"
-                            + DEFAULT_LOCALE_LANG);
+                    LOGGER.severe("Error loading the language resource for the current locale: " + LANG_RESOURCES + "_"
+                            + locale.getLanguage());
+                    return null;
                 }
+            }));
+
+            if (this.DEFAULT_LOCALE_LANG != null && !this.DEFAULT_LOCALE_LANG.isBlank()) {
+                defaultResourceBundleFuture = BackgroundTasks.supply(() -> startupTimeline.record("Default language resources loading", () -> {
+                    try {
+                        return loadResourceBundle(appClassLoader, LANG_RESOURCES, new Locale(DEFAULT_LOCALE_LANG));
+                    } catch (MissingResourceException e) {
+                        LOGGER.severe("Error loading default language resource: " + LANG_RESOURCES + "_"
+                                + DEFAULT_LOCALE_LANG);
+                        return null;
+                    }
+                }));
             }
         }
 
         this.appImageResourcePath = appImageResourcePath;
         if (this.appImageResourcePath != null && !this.appImageResourcePath.isBlank()) {
-            InputStream appImageStream = appClass.getResourceAsStream(this.appImageResourcePath);
-            if (appImageStream != null) {
-                appImage = new Image(appImageStream);
+            appImageFuture = BackgroundTasks.supply(() -> startupTimeline.record("Application image decoding", () -> {
+                InputStream appImageStream = appClass.getResourceAsStream(this.appImageResourcePath);
+                return appImageStream != null ? new Image(appImageStream) : null;
+            }));
+        }
+
+        for (Class<? extends Runnable> taskClass : bootstrapTasks) {
+            BackgroundTasks.run(() -> startupTimeline.record("Bootstrap task " + taskClass.getName(), () -> {
+                try {
+                    ((Runnable) ReflectionUtil.newInstanceOf(taskClass)).run();
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Bootstrap task " + taskClass.getName() + " failed", e);
+                }
+                return null;
+            }));
+        }
+
+        // Controllers metadata written at build time (if any)
+        startupTimeline.record("Controllers index loading", () -> {
+            ControllerIndex.load(appClass.getClassLoader());
+            return null;
+        });
+
+        locale.addListener((observable, oldLocale, newLocale) -> FxmlViewHelper.updateOpenViewsTexts());
+    }
+
+    /**
+     * Loads the language resources {@code baseName} for {@code locale}, emitting a {@link ResourceBundleLoadEvent}.
+     * The resources compiled at build time (see {@link CompiledLanguageResources}) are used if available and up to
+     * date.
+     *
+     * @throws MissingResourceException If the language resources are not found
+     */
+    private static ResourceBundle loadResourceBundle(ClassLoader classLoader, String baseName, Locale locale) {
+        var event = FrameworkEvents.AVAILABLE ? new ResourceBundleLoadEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        try {
+            ResourceBundle bundle = CompiledLanguageResources.find(classLoader, baseName, locale);
+            boolean compiled = bundle != null;
+            if (bundle == null) {
+                bundle = ResourceBundle.getBundle(baseName, locale, classLoader);
+            }
+            if (event != null) {
+                event.compiled = compiled;
+                event.found = true;
+            }
+            loadedResourceBundles.add(baseName + " (" + locale.toLanguageTag() + ")");
+            return bundle;
+        } finally {
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.baseName = baseName;
+                    event.locale = locale.toLanguageTag();
+                    event.commit();
+                }
             }
         }
     }
 
+    /**
+     * Waits for the result of a bootstrap task, at most {@link ApplicationContext#bootstrapTimeoutMillis}.
+     *
+     * @param future   Bootstrap task
+     * @param taskName Task name, used for logging purposes
+     *
+     * @return Task result or {@code null} if the task failed or did not complete on time
+     */
+    private <T> T awaitBootstrapTask(CompletableFuture<T> future, String taskName) {
+        try {
+            return future.get(bootstrapTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.severe("Bootstrap task '" + taskName + "' did not complete after " + bootstrapTimeoutMillis + " ms");
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Bootstrap task '" + taskName + "' failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return null;
+    }
+
     /**
      * Launch the JavaFX application and initialize its context. Typically this method will be called from
      * {@code main(String[])} method. Should not be called more than once (except if the previous call threw
-     * an exception) because an {@link IllegalStateException} will be throw.
+     * an exception) because an {@link IllegalStateException} will be throw.<br>
+     * <br>
+     * If the system property {@code ainoha.training} is {@code true} the application runs in training mode: instead
+     * of launching the application, the views of all the indexed controllers (see the controllers index generated at
+     * build time) are loaded offscreen, and then the JavaFX runtime is stopped and this method returns. This mode is
+     * useful for dumping an AppCDS archive which covers the classes needed to display the application views (i.e.
+     * running with {@code -XX:ArchiveClassesAtExit=app.jsa}).<br>
+     * <br>
+     * If the system property {@code ainoha.watchdog} is {@code true}, a watchdog reports each time the JavaFX
+     * Application Thread is blocked longer than {@code ainoha.watchdog.threshold} milliseconds (default: 100), with
+     * its stack trace and the view controller method which was running.<br>
+     * <br>
+     * If the system property {@code ainoha.frameMonitor} is {@code true}, the frame times of the views are measured
+     * (see {@link ApplicationContext#getFrameStats()}).<br>
+     * <br>
+     * If the system property {@code ainoha.hotReload} is defined (source directories of the FXML files and
+     * stylesheets, separated by {@link java.io.File#pathSeparator}), the showing views are updated when their FXML
+     * files or stylesheets change. Only for development.<br>
+     * <br>
+     * If the system property {@code ainoha.inputLatency} is {@code true}, the input-to-render latency of all the
+     * controls having an id is measured (see {@link ApplicationContext#getInputLatencies()}).<br>
+     * <br>
+     * If the system property {@code ainoha.jmx} is {@code true}, the framework runtime state (open views, caches,
+     * language resources, view latencies, etc.) is exposed through JMX, as the MXBean
+     * {@code com.ainoha:type=Framework}. The {@code java.management} module must be present.
      *
      * @param appClass Application main class which should be annotated with {@code @}{@link FxApplication}
      *                 and inherit from {@code @}{@link FxApplication}
@@ -149,6 +347,31 @@ public final class ApplicationContext {
             throw new IllegalArgumentException("'appClass' cannot be null");
         }
 
+        StartupTimeline startupTimeline = new StartupTimeline();
+        exportTimelineAtExit(startupTimeline);
+
+        if (SystemProperties.isEnabled(SystemProperties.WATCHDOG)) {
+            FxThreadWatchdog.start(SystemProperties.getLong(SystemProperties.WATCHDOG_THRESHOLD, 100));
+        }
+
+        if (SystemProperties.isEnabled(SystemProperties.FRAME_MONITOR)) {
+            FrameMonitor.enable();
+        }
+
+        String hotReloadSourceRoots = SystemProperties.getString(SystemProperties.HOT_RELOAD);
+        if (hotReloadSourceRoots != null) {
+            HotReloader.start(hotReloadSourceRoots);
+        }
+
+        if (SystemProperties.isEnabled(SystemProperties.JMX)) {
+            if (isModuleReadable("java.management")) {
+                // Loading the JMX classes takes time, so this is done while the application starts
+                BackgroundTasks.run(FrameworkMXBeanImpl::register);
+            } else {
+                LOGGER.warning("The framework MXBean cannot be registered, the java.management module is not present");
+            }
+        }
+
         FxApplication fxApplicationAnnotation = appClass.getDeclaredAnnotation(FxApplication.class);
 
         if (fxApplicationAnnotation == null) {
@@ -157,13 +380,33 @@ public final class ApplicationContext {
         }
 
         // Crear el contexto de la aplicación
-        context = new ApplicationContext(appClass,
-                                         fxApplicationAnnotation.langResourcesPackage(),
-                                         fxApplicationAnnotation.defaultLang(),
-                                         fxApplicationAnnotation.appImagePath(),
-                                         args);
+        context = startupTimeline.record("Application context construction", () -> new ApplicationContext(
+                appClass,
+                fxApplicationAnnotation.langResourcesPackage(),
+                fxApplicationAnnotation.defaultLang(),
+                fxApplicationAnnotation.appImagePath(),
+                fxApplicationAnnotation.bootstrapTasks(),
+                startupTimeline,
+                args
+        ));
+
+        if (SystemProperties.isEnabled(SystemProperties.TRAINING_MODE)) {
+            runTrainingMode(appClass);
+            return;
+        }
+
+        String viewProfile = SystemProperties.getString(SystemProperties.VIEW_PROFILE);
+        if (viewProfile != null) {
+            ViewPreloader.start(appClass.getClassLoader(),
+                                Path.of(viewProfile),
+                                (int) SystemProperties.getLong(SystemProperties.PRELOAD_FIRST_VIEWS, 3),
+                                SystemProperties.getLong(SystemProperties.PRELOAD_BUDGET, 2 * 1024 * 1024));
+        }
 
         try {
+            long launchNanos = System.nanoTime();
+            startupTimeline.record("Application.launch() invoked", launchNanos, launchNanos);
+
             ReflectionUtil.invokeStaticMethod(
                     Application.class,
                     "launch",
@@ -186,6 +429,82 @@ public final class ApplicationContext {
         }
     }
 
+    /**
+     * @param moduleName Module name
+     *
+     * @return {@code true} if the module {@code moduleName} is present at runtime and readable by the framework (it
+     *         could be an optional dependency)
+     */
+    private static boolean isModuleReadable(String moduleName) {
+        Optional<Module> module = ModuleLayer.boot().findModule(moduleName);
+        return module.isPresent() && ApplicationContext.class.getModule().canRead(module.get());
+    }
+
+    /**
+     * If the system property {@code ainoha.timeline.export} is defined, registers a shutdown hook which writes
+     * {@code timeline} into the file specified by the property.
+     *
+     * @see StartupTimeline#exportTo(Path)
+     */
+    private static void exportTimelineAtExit(StartupTimeline timeline) {
+        String exportPath = SystemProperties.getString(SystemProperties.TIMELINE_EXPORT);
+        if (exportPath == null) {
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                timeline.exportTo(Path.of(exportPath));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Startup timeline could not be exported to '" + exportPath + "'", e);
+            }
+        }, "ainoha-timeline-export"));
+    }
+
+    /**
+     * Loads offscreen all the views of the controllers index and then stops the JavaFX runtime, without launching
+     * the application. Views which fail to load are logged and skipped.
+     *
+     * @param appClass Application main class
+     *
+     * @see FxmlViewHelper#loadFxmlViewOffscreen(Class)
+     */
+    private static void runTrainingMode(Class<? extends Application> appClass) {
+        var entries = ControllerIndex.entries();
+        if (entries.isEmpty()) {
+            LOGGER.warning("Training mode: the controllers index was not found or is empty, no view will be loaded");
+        }
+
+        CountDownLatch trainingDone = new CountDownLatch(1);
+        Platform.startup(() -> {
+            try {
+                int loadedViews = 0;
+                for (var entry : entries) {
+                    try {
+                        Class<?> controllerClass = Class.forName(entry.getControllerClassName(), true, appClass.getClassLoader());
+                        FxmlViewHelper.loadFxmlViewOffscreen(controllerClass);
+                        loadedViews++;
+                    } catch (ClassNotFoundException | RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Training mode: view of the controller "
+                                + entry.getControllerClassName() + " could not be loaded", e);
+                    }
+                }
+
+                LOGGER.info("Training mode: " + loadedViews + " of " + entries.size() + " views were loaded");
+            } finally {
+                trainingDone.countDown();
+            }
+        });
+
+        try {
+            trainingDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            Platform.exit();
+        }
+    }
+
     /**
      * Allows to get a reference to the application context. If this method is called before launch the application
      * (this is, a successful call to method {@link ApplicationContext#startApplication} was not made) an
@@ -206,29 +525,134 @@ public final class ApplicationContext {
     /**
      * Allows to get the language resources for the current language (defined by {@link ApplicationContext#currentResourcesLocale}).
      * If current cached language resources do not match the current language (defined by {@link Locale#getDefault()}) these will
-     * be updated.
+     * be updated.<br>
+     * <br>
+     * Language resources are loaded in background when the application starts. If the loading has not been completed
+     * yet, this method waits for it (see system property {@code ainoha.bootstrap.timeout}).
      *
      * @return Language resources or {@code null} if there are not defined
      */
-    public ResourceBundle getResourceBundle() {
+    public synchronized ResourceBundle getResourceBundle() {
         if (this.LANG_RESOURCES == null || this.LANG_RESOURCES.isBlank()) {
             return null;
         }
 
+        if (resourceBundleFuture != null) {
+            resourceBundle = awaitBootstrapTask(resourceBundleFuture, "Language resources loading");
+            resourceBundleFuture = null;
+        }
+
         if (!currentResourcesLocale.equals(Locale.getDefault())) {
             currentResourcesLocale = Locale.getDefault();
-            resourceBundle = ResourceBundle.getBundle(LANG_RESOURCES, currentResourcesLocale);
+            resourceBundle = loadResourceBundle(appClassLoader, LANG_RESOURCES, currentResourcesLocale);
         }
 
         return resourceBundle;
     }
 
+    /**
+     * Application locale. When it changes (see {@link ApplicationContext#setLocale(Locale)}) the texts of all the
+     * showing views are updated in place, without loading them again: the texts taken from the language resources
+     * ({@code %key} references in the FXML files) and the window titles defined by
+     * {@link com.ainoha.core.annotation.FxmlController#titleKey()}.
+     *
+     * @return Application locale property
+     */
+    public ReadOnlyObjectProperty<Locale> localeProperty() {
+        return locale.getReadOnlyProperty();
+    }
+
+    /**
+     * @return Application locale
+     */
+    public Locale getLocale() {
+        return locale.get();
+    }
+
+    /**
+     * Changes the application locale (and the JVM default locale, see {@link Locale#setDefault(Locale)}). The texts of
+     * all the showing views are updated in the same pulse (see {@link ApplicationContext#localeProperty()}), as well as
+     * the bindings returned by {@link ApplicationContext#localizedText(String)}. Views whose texts can not be updated
+     * in place are reloaded if their controllers implement {@link Reloadable}.<br>
+     * <br>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param newLocale New application locale
+     */
+    public void setLocale(Locale newLocale) {
+        Objects.requireNonNull(newLocale, "newLocale must not be null");
+
+        Locale.setDefault(newLocale);
+        locale.set(newLocale);
+    }
+
+    /**
+     * Allows to get a binding to the text with key {@code key} in the language resources, which is updated when the
+     * application locale changes (see {@link ApplicationContext#setLocale(Locale)}). Useful for texts set by the view
+     * controllers:
+     * <pre>
+     * statusLabel.textProperty().bind(ApplicationContext.instance().localizedText("status.ready"));
+     * </pre>
+     * Bindings are shared by key and only keep weak references to the properties bound to them.
+     *
+     * @param key Language resource key
+     *
+     * @return Binding to the localized text. Its value is {@code key} if the key is not found in the language resources
+     */
+    public StringBinding localizedText(String key) {
+        return localizedTexts.computeIfAbsent(key, k -> Bindings.createStringBinding(() -> resolveText(k), locale));
+    }
+
+    private String resolveText(String key) {
+        return getMessageSource().getMessage(key).orElseGet(() -> {
+            LOGGER.warning("Language key '" + key + "' was not found.");
+            return key;
+        });
+    }
+
+    /**
+     * Reloads all the showing views whose controllers implement {@link Reloadable}, as {@link Reloadable#reloadUI()}
+     * does (i.e. after change the application theme). The FXML files are read, and the classes they use resolved,
+     * concurrently out of the JavaFX Application Thread. Then all the node trees are built and the view roots are
+     * replaced in a single pass on the JavaFX Application Thread, so the controllers are only touched on it.<br>
+     * <br>
+     * A view which fails to reload keeps its current root and its controller keeps wired to it. It does not prevent the
+     * other views from being reloaded.
+     * The returned future must not be waited for on the JavaFX Application Thread.
+     *
+     * @return Future completed, on the JavaFX Application Thread, with the result (timing and error, if any) of each
+     *         view once all of them were reloaded
+     */
+    public CompletableFuture<List<ViewReloadResult>> reloadAll() {
+        return ViewBatchReloader.reloadAll();
+    }
+
+    /**
+     * Allows to get the messages for the current language (defined by {@link Locale#getDefault()}): the current
+     * language resources merged with the default language resources (see {@link MessageSource}). The messages of each
+     * language are merged only once.
+     *
+     * @return Messages for the current language. Empty if there are not language resources defined
+     */
+    public synchronized MessageSource getMessageSource() {
+        ResourceBundle rb = getResourceBundle();
+        Locale messagesLocale = rb != null ? currentResourcesLocale : Locale.getDefault();
+
+        return messageSources.computeIfAbsent(messagesLocale,
+                                              l -> new MessageSource(l, rb, getDefaultResourceBundle()));
+    }
+
     /**
      * Allows to get the language resources for the default application language.
      *
      * @return Default language resources or {@code null} if there are not defined
      */
-    public ResourceBundle getDefaultResourceBundle() {
+    public synchronized ResourceBundle getDefaultResourceBundle() {
+        if (defaultResourceBundleFuture != null) {
+            defaultResourceBundle = awaitBootstrapTask(defaultResourceBundleFuture, "Default language resources loading");
+            defaultResourceBundleFuture = null;
+        }
+
         return defaultResourceBundle;
     }
 
@@ -237,10 +661,124 @@ public final class ApplicationContext {
      *
      * @return Application image or {@code null} if there are not defined
      */
-    public Image getAppImage() {
+    public synchronized Image getAppImage() {
+        if (appImageFuture != null) {
+            appImage = awaitBootstrapTask(appImageFuture, "Application image decoding");
+            appImageFuture = null;
+        }
+
         return appImage;
     }
 
+    /**
+     * Allows to get the application startup timeline, which includes the duration of the bootstrap tasks, the
+     * duration of each view lifecycle phase (controller construction, FXML loading, dependency injection, title
+     * resolution, annotation processing and window show) and the time elapsed until the first window was shown.<br>
+     * <br>
+     * The timeline can be exported at any moment (see {@link StartupTimeline#toJson()} and
+     * {@link StartupTimeline#toText()}), or automatically when the application exits by defining the system property
+     * {@code ainoha.timeline.export} with the target file path.
+     *
+     * @return Startup timeline
+     */
+    public StartupTimeline getStartupTimeline() {
+        return startupTimeline;
+    }
+
+    /**
+     * Allows to get the language resources loaded so far, i.e. {@code com.my.app.lang.messages (es-MX)}.
+     *
+     * @return Base name and locale of the loaded language resources
+     */
+    public Set<String> getLoadedResourceBundles() {
+        return Collections.unmodifiableSet(loadedResourceBundles);
+    }
+
+    /**
+     * Allows to get the show latencies of the views of each controller class, from the moment in which the view is
+     * requested (i.e. {@link ViewLoaderBuilder#show()}) until its window is shown. For views shown with
+     * {@link ViewLoaderBuilder#show(boolean)} waiting for them, the latency is measured until the window is shown,
+     * not until it is closed.<br>
+     * <br>
+     * Histograms are updated as new views are shown.
+     *
+     * @return Show latencies per controller class
+     */
+    public Map<Class<?>, LatencyHistogram> getViewShowLatencies() {
+        return ViewLatencies.showLatencies();
+    }
+
+    /**
+     * Allows to get the reload latencies ({@link Reloadable#reloadUI()} and {@link Reloadable#reloadFullyUI()}) of the
+     * views of each controller class. Histograms are updated as views are reloaded.
+     *
+     * @return Reload latencies per controller class
+     */
+    public Map<Class<?>, LatencyHistogram> getViewReloadLatencies() {
+        return ViewLatencies.reloadLatencies();
+    }
+
+    /**
+     * Allows to get the input-to-render latencies of the controls annotated with
+     * {@code @}{@link com.ainoha.core.annotation.MeasureInputLatency}, or of all the controls having an id if the
+     * system property {@code ainoha.inputLatency} is {@code true}. Latencies are measured from the delivery of a key,
+     * mouse or touch press/release event to the control until the next pulse of its scene.
+     *
+     * @return Input-to-render latencies per control, identified as {@code ControllerSimpleName#controlId}
+     */
+    public Map<String, LatencyHistogram> getInputLatencies() {
+        return InputLatencyMonitor.latencies();
+    }
+
+    /**
+     * Allows to get the frame statistics (FPS, frame time percentiles and dropped frames) of the views of each
+     * controller class, measured while the views are showing. The frame monitor is enabled with the system property
+     * {@code ainoha.frameMonitor} or when a view is shown with {@link ViewLoaderBuilder#frameStatsOverlay()}.
+     *
+     * @return Frame statistics per controller class. Empty if the frame monitor is not enabled
+     */
+    public Map<Class<?>, FrameStats> getFrameStats() {
+        return FrameMonitor.get().map(FrameMonitor::controllerStats).orElse(Map.of());
+    }
+
+    /**
+     * Allows to get the frame statistics of the whole application (see {@link ApplicationContext#getFrameStats()}).
+     *
+     * @return Frame statistics or an empty {@link Optional} if the frame monitor is not enabled
+     */
+    public Optional<FrameStats> getOverallFrameStats() {
+        return FrameMonitor.get().map(FrameMonitor::overallStats);
+    }
+
+    /**
+     * Allows to get the statistics of the class lookups made while loading FXML files. Classes imported by the FXML
+     * files are resolved once and shared by all the loaded views.
+     *
+     * @return Class resolution cache statistics
+     */
+    public CacheStats getClassResolutionCacheStats() {
+        return FxmlViewHelper.classResolutionCacheStats();
+    }
+
+    /**
+     * Allows to get the statistics of the {@link javafx.util.Builder} lookups made while loading FXML files.
+     *
+     * @return Builder factory cache statistics
+     */
+    public CacheStats getBuilderFactoryCacheStats() {
+        return FxmlViewHelper.builderFactoryCacheStats();
+    }
+
+    /**
+     * Allows to get the statistics of the view preloading enabled with the system property
+     * {@code ainoha.viewProfile}: a hit is a view preloaded before it was shown for the first time.
+     *
+     * @return View preloading statistics or an empty {@link Optional} if the view preloading is not enabled
+     */
+    public Optional<CacheStats> getViewPreloadStats() {
+        return ViewPreloader.get().map(ViewPreloader::stats);
+    }
+
     /**
      * Allows to get the applications command-line parameters
      *
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * Language resources of a locale, flattened into a single immutable map: the resources of the locale, the resources
+ * of its parent locales (i.e. {@code es} for {@code es_MX}) and the resources of the default application language, in
+ * that order of precedence.<br>
+ * <br>
+ * Unlike {@link ResourceBundle#getString(String)}, which walks the parent chain on each call and throws a
+ * {@link java.util.MissingResourceException} for absent keys, lookups are a single hash map access, whether the key
+ * exists or not.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class MessageSource {
+
+    private final Locale locale;
+    private final Map<String, Object> messages;
+    private final ResourceBundle resourceBundle;
+
+    /**
+     * Creates an instance.
+     *
+     * @param locale           Locale of the resources
+     * @param resources        Language resources of the locale. Could be {@code null}
+     * @param defaultResources Language resources of the default application language. Could be {@code null}
+     */
+    public MessageSource(Locale locale, ResourceBundle resources, ResourceBundle defaultResources) {
+        Map<String, Object> flattened = new HashMap<>();
+        putAll(flattened, defaultResources);
+        putAll(flattened, resources);
+
+        this.locale = locale;
+        this.messages = Map.copyOf(flattened);
+        this.resourceBundle = new FlattenedResourceBundle(locale, messages);
+    }
+
+    private static void putAll(Map<String, Object> messages, ResourceBundle resources) {
+        if (resources != null) {
+            // keySet() includes the keys of the parent bundles
+            for (String key : resources.keySet()) {
+                messages.put(key, resources.getObject(key));
+            }
+        }
+    }
+
+    /**
+     * @param key Message key
+     *
+     * @return The message or an empty {@link Optional} if the key is not found (or its value is not a text)
+     */
+    public Optional<String> getMessage(String key) {
+        Object message = messages.get(key);
+        return message instanceof String ? Optional.of((String) message) : Optional.empty();
+    }
+
+    /**
+     * @param key          Message key
+     * @param defaultValue Value to return if the key is not found
+     *
+     * @return The message or {@code defaultValue} if the key is not found (or its value is not a text)
+     */
+    public String getMessage(String key, String defaultValue) {
+        Object message = messages.get(key);
+        return message instanceof String ? (String) message : defaultValue;
+    }
+
+    /**
+     * @param key Message key
+     *
+     * @return {@code true} if the key exists
+     */
+    public boolean contains(String key) {
+        return messages.containsKey(key);
+    }
+
+    /**
+     * @return {@code true} if there are no messages (i.e. the application has not language resources)
+     */
+    public boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Allows to get the messages as a {@link ResourceBundle}, i.e. for {@link javafx.fxml.FXMLLoader}. The bundle has
+     * no parent, so its lookups are single hash map accesses too.
+     *
+     * @return The messages as a {@link ResourceBundle}
+     */
+    public ResourceBundle asResourceBundle() {
+        return resourceBundle;
+    }
+
+    private static final class FlattenedResourceBundle extends ResourceBundle {
+        private final Locale locale;
+        private final Map<String, Object> messages;
+
+        private FlattenedResourceBundle(Locale locale, Map<String, Object> messages) {
+            this.locale = locale;
+            this.messages = messages;
+        }
+
+        @Override
+        protected Object handleGetObject(String key) {
+            return messages.get(key);
+        }
+
+        @Override
+        protected Set<String> handleKeySet() {
+            return messages.keySet();
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(messages.keySet());
+        }
+
+        @Override
+        public Locale getLocale() {
+            return locale;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+/**
+ * Lifecycle of the views displayed by a {@link Router}. Since the router keeps the recently visited views, a view
+ * can be entered and left many times during its life: these methods allow the controller to refresh its data when
+ * the view is displayed again and to release resources (i.e. timers or listeners) while it is not displayed.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public interface Navigable {
+
+    /**
+     * Called each time the router displays the view, after it is added to the host (when the view is loaded, after
+     * its annotations are processed).
+     *
+     * @param params Navigation parameters (see {@link Router#navigate(Class, Object)}). Could be {@code null}
+     */
+    default void onEnter(Object params) {}
+
+    /**
+     * Called each time the router replaces the view by another one. The view could be displayed again later without
+     * being loaded again.
+     */
+    default void onLeave() {}
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+/**
+ * A view shown as a modal layer over the content of an existing {@link Scene} (see
+ * {@link ViewLoaderBuilder#showOverlay(Scene)}). It can be injected into the view controller with
+ * {@code @}{@link com.ainoha.core.annotation.ViewOverlay}. All the methods must be called on the JavaFX Application
+ * Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public interface Overlay {
+
+    /**
+     * Removes the overlay from the scene, giving the focus back to the node which had it before the overlay was
+     * shown. Does nothing if the overlay was already closed.
+     */
+    void close();
+
+    /**
+     * @return {@code true} until the overlay is closed
+     */
+    boolean isShowing();
+
+    /**
+     * @return Scene where the overlay is shown
+     */
+    Scene getScene();
+
+    /**
+     * @return Overlay view root
+     */
+    Parent getView();
+
+    /**
+     * Defines an action to execute when the overlay is closed.
+     *
+     * @param onClosed Action. Could be {@code null}
+     */
+    void setOnClosed(Runnable onClosed);
+}
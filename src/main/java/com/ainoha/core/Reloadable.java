@@ -19,6 +19,9 @@ import com.ainoha.core.annotation.FxmlController;
 import com.ainoha.core.annotation.ViewStage;
 import com.ainoha.core.exception.FxmlControllerDependenciesException;
 import com.ainoha.internal.FxmlViewHelper;
+import com.ainoha.internal.ViewLatencies;
+import com.ainoha.internal.jfr.FrameworkEvents;
+import com.ainoha.internal.jfr.ViewReloadEvent;
 import com.ainoha.internal.utils.ReflectionUtil;
 import com.ainoha.internal.utils.StageUtil;
 import javafx.scene.Parent;
@@ -46,7 +49,7 @@ public interface Reloadable {
      * process all annotated (with Ainoha Framework annotations) controller fields.
      */
     default void reloadUI() {
-        reload(false);
+        reload(false, false);
     }
 
     /**
@@ -54,25 +57,51 @@ public interface Reloadable {
      * that all annotated (with Ainoha Framework annotations) controller members (fields and methods) will be processed.
      */
     default void reloadFullyUI() {
-        reload(true);
+        reload(true, false);
     }
 
-    private void reload(boolean fully) {
+    /**
+     * Updates the texts of the user interface handle by the controller class which implements this interface, i.e.
+     * after change the application language. Unlike {@link Reloadable#reloadUI()}, the view is not loaded again: only
+     * the texts taken from the language resources ({@code %key} references in the FXML file) are updated, so the view
+     * state (scroll positions, selections, text input, etc.) is preserved and the update is much faster.<br>
+     * <br>
+     * Texts set by the controller code are not updated, unless they were taken, as they are, from the language
+     * resources injected by {@link javafx.fxml.FXMLLoader} while the view was loading. The language resources are
+     * injected again in the fields annotated with {@code @}{@link com.ainoha.core.annotation.ViewResourceBundle}.<br>
+     * <br>
+     * If the texts can not be updated (i.e. two resource keys used by the view have the same value in the previous
+     * language) the view is reloaded as {@link Reloadable#reloadUI()} does.
+     */
+    default void reloadTexts() {
+        reload(false, true);
+    }
+
+    private void reload(boolean fully, boolean textsOnly) {
         ReflectionUtil.getDeclaredAnnotation(this.getClass(), FxmlController.class)
                 .ifPresentOrElse(
-                        a -> reloadViewInStage(a, fully),
+                        a -> reloadViewInStage(a, fully, textsOnly),
                         () -> getLogger().fine("Class " + this.getClass().getName() + " is not annotated with @"
                                 + FxmlController.class.getName())
                 );
     }
 
-    private void reloadViewInStage(FxmlController fxmlControllerAnnotation, boolean fully) {
+    private void reloadViewInStage(FxmlController fxmlControllerAnnotation, boolean fully, boolean textsOnly) {
         try {
             // Get the Stage reference
             ReflectionUtil.<Stage>getFirstAnnotatedFieldValueFromController(this, ViewStage.class)
                     .ifPresentOrElse(s -> {
+                                long startNanos = System.nanoTime();
+                                var event = FrameworkEvents.AVAILABLE ? new ViewReloadEvent() : null;
+                                if (event != null) {
+                                    event.begin();
+                                }
+
                                 // `this` is the view controller
-                                Parent root = FxmlViewHelper.loadFxmlViewAsParent(this, fully);
+                                if (!textsOnly || !FxmlViewHelper.reloadViewTexts(this, s.getScene().getRoot())) {
+                                    Parent root = FxmlViewHelper.loadFxmlViewAsParent(this, fully);
+                                    s.getScene().setRoot(root);
+                                }
 
                                 // If current title was obtained from @FxmlController.title param,
                                 // is not necessary change it. Last `null` is because of this.
@@ -83,7 +112,17 @@ public interface Reloadable {
                                         null
                                 );
 
-                                s.getScene().setRoot(root);
+                                if (event != null) {
+                                    event.end();
+                                    if (event.shouldCommit()) {
+                                        event.controllerClass = this.getClass();
+                                        event.fully = fully;
+                                        event.textsOnly = textsOnly;
+                                        event.commit();
+                                    }
+                                }
+
+                                ViewLatencies.recordReload(this.getClass(), System.nanoTime() - startNanos);
                             }, () -> getLogger().fine("Controller class " + this.getClass().getName()
                                     + " no have a field annotated with @" + ViewStage.class.getName())
                     );
@@ -0,0 +1,418 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+import com.ainoha.core.metrics.CacheStats;
+import com.ainoha.internal.FxmlViewHelper;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Navigates between {@code @}{@link com.ainoha.core.annotation.FxmlController} views displayed in the same host (a
+ * {@link Pane}, whose children are replaced by the view, or a {@link Stage}, whose scene root is replaced), keeping
+ * a back/forward history as a web browser does.<br>
+ * <br>
+ * The recently visited views (controller and node tree) are kept in memory, so going back to them is immediate: the
+ * FXML file is not loaded again and the view keeps its state. The least recently visited views are discarded when
+ * there are more than {@link #setMaxCachedViews(int)} views or more than {@link #setNodeBudget(int)} nodes in
+ * memory. A discarded view is loaded again when it is visited. Controllers implementing {@link Navigable} are
+ * notified each time their view is displayed or replaced.<br>
+ * <br>
+ * A kept view is reused when its controller implements {@link Navigable} (which receives the new parameters) or
+ * when it is visited with the same parameters; otherwise it is loaded again. The texts of the kept views are updated
+ * when the application locale changes (see {@link ApplicationContext#setLocale(Locale)}). All the methods must be
+ * called on the JavaFX Application Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class Router {
+
+    /**
+     * Default maximum number of views kept in memory, including the displayed one
+     */
+    public static final int DEFAULT_MAX_CACHED_VIEWS = 5;
+
+    /**
+     * Default maximum number of nodes of the views kept in memory, including the displayed one
+     */
+    public static final int DEFAULT_NODE_BUDGET = 20_000;
+
+    private final Function<Parent, Scene> display;
+    private final ViewFactory viewFactory;
+
+    private final Deque<Destination> backStack = new ArrayDeque<>();
+    private final Deque<Destination> forwardStack = new ArrayDeque<>();
+    private final Map<Class<?>, CachedView> cachedViews = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReadOnlyBooleanWrapper canGoBack = new ReadOnlyBooleanWrapper(this, "canGoBack");
+    private final ReadOnlyBooleanWrapper canGoForward = new ReadOnlyBooleanWrapper(this, "canGoForward");
+
+    private Destination current;
+    private CachedView currentView;
+    private int maxCachedViews = DEFAULT_MAX_CACHED_VIEWS;
+    private int nodeBudget = DEFAULT_NODE_BUDGET;
+    private int cachedNodes;
+    private long hitCount;
+    private long missCount;
+
+    // Strong reference to the listener registered as weak in the application locale
+    private ChangeListener<Locale> localeListener;
+
+    /**
+     * Creates a router which displays the views as the only child of {@code host}.
+     *
+     * @param host Region where the views are displayed
+     */
+    public Router(Pane host) {
+        this(root -> {
+            host.getChildren().setAll(root);
+            return host.getScene();
+        }, FxmlViewHelper::loadFxmlViewInto);
+
+        Objects.requireNonNull(host, "'host' cannot be null");
+        updateTextsOnLocaleChange();
+    }
+
+    /**
+     * Creates a router which displays the views as the scene root of {@code stage}. A scene is created if the stage
+     * has none.
+     *
+     * @param stage Stage where the views are displayed
+     */
+    public Router(Stage stage) {
+        this(root -> {
+            if (stage.getScene() == null) {
+                stage.setScene(new Scene(root));
+            } else {
+                stage.getScene().setRoot(root);
+            }
+            return stage.getScene();
+        }, FxmlViewHelper::loadFxmlViewInto);
+
+        Objects.requireNonNull(stage, "'stage' cannot be null");
+        updateTextsOnLocaleChange();
+    }
+
+    Router(Function<Parent, Scene> display, ViewFactory viewFactory) {
+        this.display = display;
+        this.viewFactory = viewFactory;
+    }
+
+    /**
+     * Loads a view with {@link FxmlViewHelper#loadFxmlViewInto(Class, Object, Function)} semantics.
+     */
+    interface ViewFactory {
+        Object load(Class<?> controllerClass, Object params, Function<Parent, Scene> display);
+    }
+
+    private void updateTextsOnLocaleChange() {
+        localeListener = (observable, oldLocale, newLocale) -> updateTexts();
+        ApplicationContext.instance().localeProperty().addListener(new WeakChangeListener<>(localeListener));
+    }
+
+    /**
+     * Same behavior that call {@code navigate(controllerClass, null)}.
+     *
+     * @param controllerClass Controller class of the view to display
+     *
+     * @return Controller of the displayed view
+     */
+    public <T> T navigate(Class<T> controllerClass) {
+        return navigate(controllerClass, null);
+    }
+
+    /**
+     * Displays a view, adding the current one to the back history and clearing the forward history.
+     *
+     * @param controllerClass Controller class of the view to display
+     * @param params          Data to pass to the view (see {@code @}{@link com.ainoha.core.annotation.ViewParams}
+     *                        and {@link Navigable#onEnter(Object)}). Could be {@code null}
+     *
+     * @return Controller of the displayed view
+     *
+     * @throws com.ainoha.core.exception.ShowingViewException If the view could not be loaded. The current view is
+     *                                                        kept in such case
+     */
+    public <T> T navigate(Class<T> controllerClass, Object params) {
+        Objects.requireNonNull(controllerClass, "'controllerClass' cannot be null");
+
+        Destination previous = current;
+        List<Destination> previousForward = new ArrayList<>(forwardStack);
+
+        if (previous != null) {
+            backStack.push(previous);
+        }
+        forwardStack.clear();
+
+        try {
+            return controllerClass.cast(display(new Destination(controllerClass, params)));
+        } catch (RuntimeException e) {
+            if (previous != null) {
+                backStack.pop();
+            }
+            previousForward.forEach(forwardStack::addLast);
+            throw e;
+        } finally {
+            updateHistoryProperties();
+        }
+    }
+
+    /**
+     * Displays the previous view of the history, if any.
+     *
+     * @return Controller of the displayed view, or an empty {@link Optional} if there is no previous view
+     */
+    public Optional<Object> back() {
+        return move(backStack, forwardStack);
+    }
+
+    /**
+     * Displays the next view of the history (after going back), if any.
+     *
+     * @return Controller of the displayed view, or an empty {@link Optional} if there is no next view
+     */
+    public Optional<Object> forward() {
+        return move(forwardStack, backStack);
+    }
+
+    private Optional<Object> move(Deque<Destination> from, Deque<Destination> to) {
+        if (from.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Destination destination = from.pop();
+        to.push(current);
+        try {
+            return Optional.of(display(destination));
+        } catch (RuntimeException e) {
+            to.pop();
+            from.push(destination);
+            throw e;
+        } finally {
+            updateHistoryProperties();
+        }
+    }
+
+    private Object display(Destination destination) {
+        CachedView previousView = currentView;
+        if (previousView != null && previousView.controller instanceof Navigable) {
+            ((Navigable) previousView.controller).onLeave();
+        }
+
+        CachedView view = cachedViews.get(destination.controllerClass);
+        try {
+            if (view != null && canReuse(view, destination)) {
+                hitCount++;
+                display.apply(view.root);
+            } else {
+                missCount++;
+                view = load(destination);
+            }
+        } catch (RuntimeException e) {
+            // The previous view is displayed again
+            if (previousView != null) {
+                display.apply(previousView.root);
+                if (previousView.controller instanceof Navigable) {
+                    ((Navigable) previousView.controller).onEnter(current.params);
+                }
+            }
+            throw e;
+        }
+
+        view.params = destination.params;
+        current = destination;
+        currentView = view;
+        if (view.controller instanceof Navigable) {
+            ((Navigable) view.controller).onEnter(destination.params);
+        }
+
+        evictViews();
+        return view.controller;
+    }
+
+    /**
+     * A cached view is reused for another destination of its controller class only if its controller is notified of
+     * the new parameters ({@link Navigable#onEnter(Object)}) or the parameters are the same
+     */
+    private static boolean canReuse(CachedView view, Destination destination) {
+        return view.controller instanceof Navigable || Objects.equals(view.params, destination.params);
+    }
+
+    private CachedView load(Destination destination) {
+        Parent[] root = new Parent[1];
+        Object controller = viewFactory.load(destination.controllerClass, destination.params, viewRoot -> {
+            root[0] = viewRoot;
+            return display.apply(viewRoot);
+        });
+
+        var view = new CachedView(controller, root[0], destination.params, countNodes(root[0]));
+        CachedView replaced = cachedViews.put(destination.controllerClass, view);
+        if (replaced != null) {
+            cachedNodes -= replaced.nodeCount;
+        }
+        cachedNodes += view.nodeCount;
+        return view;
+    }
+
+    /**
+     * Discards the least recently displayed views until the limits are met. The current view is never discarded.
+     */
+    private void evictViews() {
+        Iterator<CachedView> views = cachedViews.values().iterator();
+        while ((cachedViews.size() > maxCachedViews || cachedNodes > nodeBudget) && views.hasNext()) {
+            CachedView view = views.next();
+            if (view != currentView) {
+                views.remove();
+                cachedNodes -= view.nodeCount;
+            }
+        }
+    }
+
+    private void updateTexts() {
+        for (Iterator<CachedView> views = cachedViews.values().iterator(); views.hasNext(); ) {
+            CachedView view = views.next();
+            if (view != currentView && !FxmlViewHelper.reloadViewTexts(view.controller, view.root)) {
+                // Loaded again the next time it is displayed
+                views.remove();
+                cachedNodes -= view.nodeCount;
+            }
+        }
+
+        if (currentView != null && !FxmlViewHelper.reloadViewTexts(currentView.controller, currentView.root)) {
+            CachedView view = currentView;
+            cachedViews.remove(current.controllerClass);
+            cachedNodes -= view.nodeCount;
+            display(current);
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private void updateHistoryProperties() {
+        canGoBack.set(!backStack.isEmpty());
+        canGoForward.set(!forwardStack.isEmpty());
+    }
+
+    /**
+     * @return Controller of the displayed view, or an empty {@link Optional} if no view has been displayed yet
+     */
+    public Optional<Object> getCurrentController() {
+        return Optional.ofNullable(currentView).map(view -> view.controller);
+    }
+
+    /**
+     * {@code true} if there is a previous view in the history (see {@link #back()})
+     */
+    public ReadOnlyBooleanProperty canGoBackProperty() {
+        return canGoBack.getReadOnlyProperty();
+    }
+
+    /**
+     * {@code true} if there is a next view in the history (see {@link #forward()})
+     */
+    public ReadOnlyBooleanProperty canGoForwardProperty() {
+        return canGoForward.getReadOnlyProperty();
+    }
+
+    /**
+     * Defines the maximum number of views kept in memory, including the displayed one.<br>
+     * <br>
+     * Default: {@link #DEFAULT_MAX_CACHED_VIEWS}
+     *
+     * @param maxCachedViews Maximum number of views. Must be at least 1
+     */
+    public void setMaxCachedViews(int maxCachedViews) {
+        if (maxCachedViews < 1) {
+            throw new IllegalArgumentException("'maxCachedViews' must be at least 1");
+        }
+        this.maxCachedViews = maxCachedViews;
+        evictViews();
+    }
+
+    /**
+     * Defines the maximum number of nodes of the views kept in memory (as loaded, without the nodes created later by
+     * the controls skins), including the displayed one. The displayed view is kept even if it exceeds the budget.<br>
+     * <br>
+     * Default: {@link #DEFAULT_NODE_BUDGET}
+     *
+     * @param nodeBudget Maximum number of nodes
+     */
+    public void setNodeBudget(int nodeBudget) {
+        this.nodeBudget = nodeBudget;
+        evictViews();
+    }
+
+    /**
+     * Allows to get the statistics of the views kept in memory: a hit is a view displayed without loading it, a miss
+     * is a view loaded.
+     *
+     * @return Views cache statistics
+     */
+    public CacheStats getCacheStats() {
+        return new CacheStats(hitCount, missCount, cachedViews.size());
+    }
+
+    private static final class Destination {
+        private final Class<?> controllerClass;
+        private final Object params;
+
+        private Destination(Class<?> controllerClass, Object params) {
+            this.controllerClass = controllerClass;
+            this.params = params;
+        }
+    }
+
+    private static final class CachedView {
+        private final Object controller;
+        private final Parent root;
+        private final int nodeCount;
+        private Object params;
+
+        private CachedView(Object controller, Parent root, Object params, int nodeCount) {
+            this.controller = controller;
+            this.root = root;
+            this.params = params;
+            this.nodeCount = nodeCount;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.ainoha.core;
 
 import com.ainoha.internal.FxmlViewHelper;
+import javafx.scene.Scene;
 import javafx.scene.input.KeyCombination;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
@@ -43,6 +44,7 @@ public final class ViewLoaderBuilder<T> {
     private boolean fullScreen;
     private String fullScreenExitHint;
     private KeyCombination fullScreenExitKeyCombination;
+    private boolean frameStatsOverlay;
 
     public ViewLoaderBuilder(Class<T> controllerClass) {
         Objects.requireNonNull(controllerClass, "'controllerClass' cannot be null");
@@ -177,6 +179,21 @@ public final class ViewLoaderBuilder<T> {
         return this;
     }
 
+    /**
+     * Defines that the frame statistics of the view (FPS, frame time percentiles and dropped frames) will be shown
+     * over it, updated twice per second. This enables the frame monitor (see
+     * {@link ApplicationContext#getFrameStats()}) if it was not enabled. The view root must be a
+     * {@link javafx.scene.layout.Pane}, otherwise the statistics are not shown.<br>
+     * <br>
+     * Default: statistics are not shown
+     *
+     * @return {@code this}
+     */
+    public ViewLoaderBuilder<T> frameStatsOverlay() {
+        this.frameStatsOverlay = true;
+        return this;
+    }
+
     /**
      * Same behavior that call {@code show(false)}.
      *
@@ -210,10 +227,31 @@ public final class ViewLoaderBuilder<T> {
                 maximized,
                 fullScreen,
                 fullScreenExitHint,
-                fullScreenExitKeyCombination
+                fullScreenExitKeyCombination,
+                frameStatsOverlay
         );
     }
 
+    /**
+     * Shows the view as a modal layer over the content of {@code ownerScene}, instead of in a new window. This avoids
+     * the creation of a native window, so it is suitable for small views opened frequently (i.e. confirmations and
+     * pickers). While the overlay is showing, the rest of the scene does not receive user input. The view parameters
+     * (see {@link #viewParams(Object)}) are passed to the view; the window related parameters are ignored.<br>
+     * <br>
+     * The controller can close the overlay through the {@link Overlay} injected into its fields annotated with
+     * {@code @}{@link com.ainoha.core.annotation.ViewOverlay}. {@link Reloadable} methods are not supported by
+     * overlay views, since they would replace the content of the owner scene. Must be called on the JavaFX
+     * Application Thread.
+     *
+     * @param ownerScene Scene where the view will be displayed. Its root must be a {@link javafx.scene.layout.Pane}
+     *
+     * @return Controller instance of the displayed view
+     */
+    public T showOverlay(Scene ownerScene) {
+        Objects.requireNonNull(ownerScene, "'ownerScene' cannot be null");
+        return FxmlViewHelper.showFxmlViewOverlay(controllerClass, ownerScene, params);
+    }
+
     /**
      * Same behavior that call {@code showUndecorated(false)}.
      *
@@ -283,5 +321,6 @@ public final class ViewLoaderBuilder<T> {
         fullScreen = false;
         fullScreenExitHint = null;
         fullScreenExitKeyCombination = null;
+        frameStatsOverlay = false;
     }
 }
@@ -57,4 +57,13 @@ public @interface FxApplication {
      * Default: /app.png
      */
     String appImagePath() default "/app.png";
+
+    /**
+     * Additional tasks to execute in background while the application starts (i.e. for warming up caches used by
+     * the first views). Each class must have a public non-argument constructor. The language resources loading and
+     * the application image decoding are always executed in background.<br>
+     * <br>
+     * Default: {} (no additional tasks)
+     */
+    Class<? extends Runnable>[] bootstrapTasks() default {};
 }
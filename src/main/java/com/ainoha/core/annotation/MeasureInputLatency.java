@@ -0,0 +1,40 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows to measure the input-to-render latency of the annotated field: the time elapsed from the delivery of a key,
+ * mouse or touch press/release event to the field until the next JavaFX pulse, when the response to the event is
+ * rendered.<br>
+ * <br>
+ * Latencies are aggregated per control, identified by the controller class simple name and the control id (or the
+ * field name if the control has no id), i.e. {@code LoginViewController#loginButton} (see
+ * {@link com.ainoha.core.ApplicationContext#getInputLatencies()}). In order to measure all the controls of all the
+ * views, the system property {@code ainoha.inputLatency} can be set to {@code true}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MeasureInputLatency {
+
+}
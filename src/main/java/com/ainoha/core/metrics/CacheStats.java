@@ -0,0 +1,69 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+/**
+ * Immutable snapshot of the usage statistics of a framework cache.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final int size;
+
+    public CacheStats(long hitCount, long missCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.size = size;
+    }
+
+    /**
+     * @return Number of lookups resolved from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return Number of lookups that were not found in the cache
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return Number of cached entries
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return Ratio of lookups resolved from the cache, between 0 and 1. If there were no lookups returns 0
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", size=" + size + "}";
+    }
+}
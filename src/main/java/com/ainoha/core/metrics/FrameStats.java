@@ -0,0 +1,108 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Immutable snapshot of the frame statistics of the application, or of the views of a controller class, measured by
+ * the frame monitor (see {@link com.ainoha.core.ApplicationContext#getFrameStats()}).<br>
+ * <br>
+ * The frame time is the interval between two consecutive JavaFX pulses. When the JavaFX Application Thread is busy,
+ * pulses are delayed and the frames that should have been rendered in the meantime are counted as dropped. The layout
+ * time is the time spent in the CSS and layout passes of the view scene during a pulse.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class FrameStats {
+
+    private final long frameCount;
+    private final long droppedFrames;
+    private final Duration totalFrameTime;
+    private final Duration frameTimeP50;
+    private final Duration frameTimeP99;
+    private final Duration layoutTimeP50;
+    private final Duration layoutTimeP99;
+
+    public FrameStats(long frameCount, long droppedFrames, Duration totalFrameTime, Duration frameTimeP50,
+                      Duration frameTimeP99, Duration layoutTimeP50, Duration layoutTimeP99) {
+        this.frameCount = frameCount;
+        this.droppedFrames = droppedFrames;
+        this.totalFrameTime = totalFrameTime;
+        this.frameTimeP50 = frameTimeP50;
+        this.frameTimeP99 = frameTimeP99;
+        this.layoutTimeP50 = layoutTimeP50;
+        this.layoutTimeP99 = layoutTimeP99;
+    }
+
+    /**
+     * @return Number of measured frames
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return Number of frames not rendered on time
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * @return Average frames per second, or 0 if no frame was measured
+     */
+    public double getFps() {
+        return totalFrameTime.isZero() ? 0 : frameCount / (totalFrameTime.toNanos() / 1_000_000_000.0);
+    }
+
+    /**
+     * @return Median frame time
+     */
+    public Duration getFrameTimeP50() {
+        return frameTimeP50;
+    }
+
+    /**
+     * @return 99th percentile of the frame time
+     */
+    public Duration getFrameTimeP99() {
+        return frameTimeP99;
+    }
+
+    /**
+     * @return Median time spent in the CSS and layout passes during a pulse
+     */
+    public Duration getLayoutTimeP50() {
+        return layoutTimeP50;
+    }
+
+    /**
+     * @return 99th percentile of the time spent in the CSS and layout passes during a pulse
+     */
+    public Duration getLayoutTimeP99() {
+        return layoutTimeP99;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "FPS %.1f | p50 %.1f ms | p99 %.1f ms | dropped %d",
+                             getFps(), frameTimeP50.toNanos() / 1_000_000.0, frameTimeP99.toNanos() / 1_000_000.0,
+                             droppedFrames);
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies (in nanoseconds) with fixed memory usage and lock-free recording, so it can be updated from
+ * any thread (i.e. the JavaFX Application Thread) without blocking.<br>
+ * <br>
+ * Values are counted in logarithmic buckets: each power of two range is split in 16 linear buckets, so the
+ * relative error of the reported percentiles is lower than 1/16 (about 6%). Latencies up to 2^41 nanoseconds
+ * (about 36 minutes) are distinguished, longer ones are counted in the last bucket.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKETS = 16;
+    static final int MAX_EXPONENT = 40;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+
+        buckets.incrementAndGet(bucketIndex(value));
+        count.incrementAndGet();
+        totalNanos.addAndGet(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return Number of recorded latencies
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return Sum of the recorded latencies
+     */
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos.get());
+    }
+
+    /**
+     * @return Highest recorded latency or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * @return Average of the recorded latencies or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getMean() {
+        long recorded = count.get();
+        return recorded == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.get() / recorded);
+    }
+
+    /**
+     * Allows to get the latency below which {@code percentile} percent of the recorded latencies fall, i.e.
+     * {@code getValueAtPercentile(99)} for the 99th percentile.
+     *
+     * @param percentile Percentile, between 0 and 100
+     *
+     * @return Latency at the percentile (the upper bound of its bucket, but no more than the highest recorded
+     *         latency) or {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+
+        long recorded = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            recorded += counts[i];
+        }
+
+        if (recorded == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return Duration.ofNanos(Math.min(bucketUpperBound(i), maxNanos.get()));
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Discards all the recorded latencies. Latencies recorded concurrently with this method may be partially
+     * discarded.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount()
+                + ", mean=" + getMean().toNanos() + "ns"
+                + ", p50=" + getValueAtPercentile(50).toNanos() + "ns"
+                + ", p99=" + getValueAtPercentile(99).toNanos() + "ns"
+                + ", max=" + getMax().toNanos() + "ns}";
+    }
+}
@@ -0,0 +1,296 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Timeline of the application startup and of the views lifecycle. Records the duration of each phase (context
+ * construction, language resources loading, view loading, etc.) and the thread which executed it, relative to the
+ * moment in which the timeline was created (the application start).<br>
+ * <br>
+ * The timeline can be exported as JSON ({@link StartupTimeline#toJson()}) or as a text report
+ * ({@link StartupTimeline#toText()}), i.e. for comparing the startup of different application builds. In order to
+ * keep the memory usage bounded, at most {@link StartupTimeline#MAX_PHASES} phases are recorded.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class StartupTimeline {
+
+    /**
+     * Maximum number of recorded phases. Later phases are discarded
+     */
+    public static final int MAX_PHASES = 10_000;
+
+    private final long originNanos;
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+    private final AtomicInteger phaseCount = new AtomicInteger();
+    private volatile long firstWindowNanos = -1;
+
+    public StartupTimeline() {
+        this.originNanos = System.nanoTime();
+    }
+
+    /**
+     * Executes {@code task} recording its duration as the phase {@code name}.
+     *
+     * @param name Phase name
+     * @param task Task to execute
+     *
+     * @return Task result
+     */
+    public <T> T record(String name, Supplier<T> task) {
+        long startNanos = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(name, startNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records the phase {@code name}, executed by the current thread.
+     *
+     * @param name       Phase name
+     * @param startNanos Phase start, as returned by {@link System#nanoTime()}
+     * @param endNanos   Phase end, as returned by {@link System#nanoTime()}
+     */
+    public void record(String name, long startNanos, long endNanos) {
+        record(name, null, startNanos, endNanos);
+    }
+
+    /**
+     * Records the phase {@code name}, executed by the current thread.
+     *
+     * @param name       Phase name
+     * @param detail     Phase detail (i.e. the controller class of the view being loaded). Could be {@code null}
+     * @param startNanos Phase start, as returned by {@link System#nanoTime()}
+     * @param endNanos   Phase end, as returned by {@link System#nanoTime()}
+     */
+    public void record(String name, String detail, long startNanos, long endNanos) {
+        if (phaseCount.incrementAndGet() > MAX_PHASES) {
+            return;
+        }
+
+        phases.add(new Phase(name, detail, Thread.currentThread().getName(), startNanos - originNanos,
+                             endNanos - startNanos));
+    }
+
+    /**
+     * Records the moment in which the first application window was shown. Only the first call has effect.
+     *
+     * @return {@code true} if this was the first call
+     */
+    public synchronized boolean markFirstWindowShown() {
+        if (firstWindowNanos >= 0) {
+            return false;
+        }
+
+        long nowNanos = System.nanoTime();
+        firstWindowNanos = nowNanos - originNanos;
+        record("First window shown", nowNanos, nowNanos);
+        return true;
+    }
+
+    /**
+     * @return Time elapsed from the application start until the first window was shown, or an empty
+     *         {@link Optional} if no window has been shown yet
+     */
+    public Optional<Duration> getTimeToFirstWindow() {
+        long nanos = firstWindowNanos;
+        return nanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+    }
+
+    /**
+     * @return Recorded phases, sorted by start time
+     */
+    public List<Phase> getPhases() {
+        List<Phase> sortedPhases = new ArrayList<>(phases);
+        sortedPhases.sort(Comparator.comparingLong(Phase::getStartNanos));
+        return sortedPhases;
+    }
+
+    /**
+     * @return Number of phases discarded because the {@link StartupTimeline#MAX_PHASES} limit was reached
+     */
+    public int getDiscardedPhaseCount() {
+        return Math.max(0, phaseCount.get() - MAX_PHASES);
+    }
+
+    /**
+     * Exports the timeline as a JSON document. Times are expressed in nanoseconds.
+     *
+     * @return JSON document
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timeToFirstWindowNanos\":").append(firstWindowNanos)
+            .append(",\"discardedPhases\":").append(getDiscardedPhaseCount())
+            .append(",\"phases\":[");
+
+        boolean first = true;
+        for (Phase phase : getPhases()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+
+            json.append("{\"name\":");
+            appendJsonString(json, phase.name);
+            json.append(",\"detail\":");
+            appendJsonString(json, phase.detail);
+            json.append(",\"thread\":");
+            appendJsonString(json, phase.threadName);
+            json.append(",\"startNanos\":").append(phase.startNanos)
+                .append(",\"durationNanos\":").append(phase.durationNanos)
+                .append('}');
+        }
+
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Exports the timeline as a human readable report. Each line contains a phase start and duration (in
+     * milliseconds), the thread which executed it, and its name and detail.
+     *
+     * @return Text report
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder(256);
+        text.append("Startup timeline (time to first window: ")
+            .append(getTimeToFirstWindow().map(d -> formatMillis(d.toNanos()) + " ms").orElse("-"))
+            .append(")\n");
+
+        for (Phase phase : getPhases()) {
+            text.append(String.format("%12s ms  +%10s ms  [%s] %s", formatMillis(phase.startNanos),
+                                      formatMillis(phase.durationNanos), phase.threadName, phase.name));
+            if (phase.detail != null) {
+                text.append(" (").append(phase.detail).append(')');
+            }
+            text.append('\n');
+        }
+
+        if (getDiscardedPhaseCount() > 0) {
+            text.append(getDiscardedPhaseCount()).append(" phases were discarded\n");
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Writes the timeline into {@code file}. The file content will be JSON if its name ends with {@code .json},
+     * otherwise a text report.
+     *
+     * @param file Target file
+     *
+     * @throws IOException If the file could not be written
+     */
+    public void exportTo(Path file) throws IOException {
+        String content = file.getFileName().toString().endsWith(".json") ? toJson() : toText();
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * A recorded phase.
+     */
+    public static final class Phase {
+        private final String name;
+        private final String detail;
+        private final String threadName;
+        private final long startNanos;
+        private final long durationNanos;
+
+        Phase(String name, String detail, String threadName, long startNanos, long durationNanos) {
+            this.name = name;
+            this.detail = detail;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return Phase detail (i.e. the controller class of the view being loaded) or {@code null} if the phase has no detail
+         */
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * @return Name of the thread which executed the phase
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * @return Phase start, in nanoseconds since the application start
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+}
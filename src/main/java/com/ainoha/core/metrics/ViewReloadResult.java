@@ -0,0 +1,81 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Result of the reloading of a view as part of a batch reload (see
+ * {@link com.ainoha.core.ApplicationContext#reloadAll()}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ViewReloadResult {
+
+    private final Class<?> controllerClass;
+    private final Duration loadTime;
+    private final Duration swapTime;
+    private final Throwable error;
+
+    public ViewReloadResult(Class<?> controllerClass, Duration loadTime, Duration swapTime, Throwable error) {
+        this.controllerClass = controllerClass;
+        this.loadTime = loadTime;
+        this.swapTime = swapTime;
+        this.error = error;
+    }
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    /**
+     * @return Time taken to read the FXML file of the view and to resolve the classes it uses, out of the JavaFX
+     *         Application Thread
+     */
+    public Duration getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * @return Time taken, on the JavaFX Application Thread, to build the new node tree of the view, to process the
+     *         controller and to replace the view root. {@link Duration#ZERO} if the FXML file could not be read
+     */
+    public Duration getSwapTime() {
+        return swapTime;
+    }
+
+    /**
+     * @return Error which prevented the view from being reloaded, if any
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    /**
+     * @return {@code true} if the view was reloaded
+     */
+    public boolean isSuccessful() {
+        return error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "ViewReloadResult{controllerClass=" + controllerClass.getName() + ", loadTime=" + loadTime
+                + ", swapTime=" + swapTime + (error != null ? ", error=" + error : "") + "}";
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor for the framework tasks which run in background (i.e. the application bootstrap tasks). Its threads are
+ * daemon threads, so they never prevent the application from exiting.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class BackgroundTasks {
+
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+        AtomicInteger threadCount = new AtomicInteger();
+        EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "ainoha-background-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private BackgroundTasks() {}
+
+    /**
+     * Executes {@code task} in background.
+     *
+     * @param task Task to execute
+     *
+     * @return Future for the task result
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * Executes {@code task} in background.
+     *
+     * @param task Task to execute
+     *
+     * @return Future completed when the task ends
+     */
+    public static CompletableFuture<Void> run(Runnable task) {
+        return CompletableFuture.runAsync(task, EXECUTOR);
+    }
+
+    /**
+     * @return Number of tasks waiting to be executed
+     */
+    public static int queueSize() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * @return Number of tasks being executed
+     */
+    public static int activeCount() {
+        return EXECUTOR.getActiveCount();
+    }
+}
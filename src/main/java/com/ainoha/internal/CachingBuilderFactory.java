@@ -0,0 +1,93 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.CacheStats;
+import javafx.fxml.JavaFXBuilderFactory;
+import javafx.util.Builder;
+import javafx.util.BuilderFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link BuilderFactory} shared by all the {@link javafx.fxml.FXMLLoader} instances created by the framework.<br>
+ * <br>
+ * Most of the types found in a FXML file do not need a {@link Builder} (they have a non-argument constructor), but
+ * {@link JavaFXBuilderFactory} scans the type constructors each time it is asked for one. This factory remembers
+ * which types do not need a {@link Builder} and only delegates in {@link JavaFXBuilderFactory} for the others. The
+ * builders are never cached since they hold the state of the object being built.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class CachingBuilderFactory implements BuilderFactory {
+
+    private final BuilderFactory delegate;
+
+    /**
+     * {@code true} if the type needs a {@link Builder}
+     */
+    private final Map<Class<?>, Boolean> needsBuilder = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    CachingBuilderFactory(ClassLoader classLoader) {
+        this.delegate = new JavaFXBuilderFactory(classLoader);
+    }
+
+    @Override
+    public Builder<?> getBuilder(Class<?> type) {
+        Boolean builderNeeded = needsBuilder.get(type);
+
+        if (builderNeeded == null) {
+            misses.increment();
+
+            Builder<?> builder = delegateBuilder(type);
+            needsBuilder.put(type, builder != null);
+            return builder;
+        }
+
+        hits.increment();
+        return builderNeeded ? delegateBuilder(type) : null;
+    }
+
+    /**
+     * {@link JavaFXBuilderFactory} is not thread safe and views can be prepared concurrently (see
+     * {@link ViewPreloader} and {@link com.ainoha.core.ApplicationContext#reloadAll()}).
+     */
+    private Builder<?> delegateBuilder(Class<?> type) {
+        synchronized (delegate) {
+            return delegate.getBuilder(type);
+        }
+    }
+
+    /**
+     * @return Statistics for the {@link Builder} lookups made through this factory
+     */
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), needsBuilder.size());
+    }
+
+    /**
+     * Removes all the cached lookups.
+     */
+    void clear() {
+        needsBuilder.clear();
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.CacheStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ClassLoader} used by all the {@link javafx.fxml.FXMLLoader} instances created by the framework. Remembers
+ * the result of each class lookup, including the failed ones, so the {@code <?import?>} processing instructions of
+ * the FXML files are resolved against the parent {@link ClassLoader} only once.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class CachingClassLoader extends ClassLoader {
+
+    /**
+     * Caching class loader for each parent {@link ClassLoader}
+     */
+    private static final Map<ClassLoader, CachingClassLoader> instances = new ConcurrentHashMap<>();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    /**
+     * Marks the class names which were not found by the parent {@link ClassLoader}
+     */
+    private static final Class<?> NOT_FOUND = Void.class;
+
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+
+    private CachingClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    /**
+     * Allows to get the caching class loader which delegates in {@code parent}.
+     *
+     * @param parent Class loader to be used for the class lookups
+     *
+     * @return The shared caching class loader for {@code parent}
+     */
+    static CachingClassLoader of(ClassLoader parent) {
+        return instances.computeIfAbsent(parent, CachingClassLoader::new);
+    }
+
+    /**
+     * @return Statistics for the class lookups made through all the caching class loaders
+     */
+    static CacheStats stats() {
+        int size = instances.values().stream().mapToInt(loader -> loader.classes.size()).sum();
+        return new CacheStats(hits.sum(), misses.sum(), size);
+    }
+
+    /**
+     * Removes all the cached class lookups.
+     */
+    static void clear() {
+        instances.values().forEach(loader -> loader.classes.clear());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        Class<?> clazz = classes.get(name);
+
+        if (clazz == null) {
+            misses.increment();
+
+            try {
+                clazz = getParent().loadClass(name);
+            } catch (ClassNotFoundException e) {
+                clazz = NOT_FOUND;
+            }
+
+            classes.put(name, clazz);
+        } else {
+            hits.increment();
+        }
+
+        if (clazz == NOT_FOUND) {
+            throw new CachedClassNotFoundException(name);
+        }
+
+        return clazz;
+    }
+
+    /**
+     * Thrown for class names already known as not found. Filling the stack trace is skipped because
+     * {@link javafx.fxml.FXMLLoader} uses this exception for probing the imported packages.
+     */
+    private static final class CachedClassNotFoundException extends ClassNotFoundException {
+
+        CachedClassNotFoundException(String name) {
+            super(name);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
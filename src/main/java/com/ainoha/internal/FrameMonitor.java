@@ -0,0 +1,321 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.FrameStats;
+import com.ainoha.core.metrics.LatencyHistogram;
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Measures the frame times (interval between JavaFX pulses) and the layout times (CSS and layout passes of each scene)
+ * of the application, and of the views of each controller class while they are showing.<br>
+ * <br>
+ * Frame times are measured through an {@link AnimationTimer}, which forces a pulse on each frame, so the monitor has a
+ * cost and it is disabled by default. The timer only runs while at least one tracked view is showing. Layout times
+ * are measured through the scene pulse listeners ({@link Scene#addPreLayoutPulseListener(Runnable)}). The JavaFX
+ * pulse logger ({@code -Djavafx.pulseLogger=true}) gives a more detailed breakdown of each pulse, but it has no
+ * public API and only prints to the console.<br>
+ * <br>
+ * All the methods, except {@link #enable()}, {@link #get()} and the statistics getters, must be called on the JavaFX
+ * Application Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class FrameMonitor {
+
+    private static final Logger LOGGER = Logger.getLogger(FrameMonitor.class.getName());
+
+    /**
+     * Expected frame time (JavaFX renders at 60 frames per second)
+     */
+    static final long EXPECTED_FRAME_NANOS = 1_000_000_000L / 60;
+
+    private static final long OVERLAY_UPDATE_NANOS = 500_000_000L;
+    private static final String TRACKING_KEY = FrameMonitor.class.getName() + ".tracking";
+
+    private static volatile FrameMonitor instance;
+
+    private final FrameCounters overall = new FrameCounters();
+    private final Map<Class<?>, FrameCounters> controllerCounters = new ConcurrentHashMap<>();
+    private final Set<StageTracking> showingStages = new LinkedHashSet<>();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onFrame(now);
+        }
+    };
+
+    private long lastFrameNanos = -1;
+
+    private FrameMonitor() {}
+
+    /**
+     * Enables the frame monitor. Frames are measured while at least one tracked view is showing.
+     *
+     * @return The frame monitor
+     */
+    public static synchronized FrameMonitor enable() {
+        if (instance == null) {
+            instance = new FrameMonitor();
+        }
+
+        return instance;
+    }
+
+    /**
+     * @return The frame monitor or an empty {@link Optional} if it is not enabled
+     */
+    public static Optional<FrameMonitor> get() {
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * @return Frame statistics of the whole application
+     */
+    public FrameStats overallStats() {
+        return overall.snapshot();
+    }
+
+    /**
+     * @return Frame statistics of the views of each controller class
+     */
+    public Map<Class<?>, FrameStats> controllerStats() {
+        Map<Class<?>, FrameStats> stats = new HashMap<>();
+        controllerCounters.forEach((controllerClass, counters) -> stats.put(controllerClass, counters.snapshot()));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Measures the frames of {@code stage}, while it is showing, as frames of a {@code controllerClass} view. A
+     * previously tracked stage is attributed to the new controller class.
+     *
+     * @param stage           View Stage
+     * @param controllerClass View controller class
+     */
+    public void track(Stage stage, Class<?> controllerClass) {
+        StageTracking tracking = (StageTracking) stage.getProperties().get(TRACKING_KEY);
+        if (tracking == null) {
+            tracking = new StageTracking(stage);
+            stage.getProperties().put(TRACKING_KEY, tracking);
+        }
+
+        tracking.counters = controllerCounters.computeIfAbsent(controllerClass, c -> new FrameCounters());
+        if (stage.isShowing()) {
+            tracking.startMeasuring();
+        }
+    }
+
+    /**
+     * Shows the frame statistics of the {@code stage} view in a label over the view, updated twice per second. The
+     * label is added to the scene root, which must be a {@link Pane} (otherwise the overlay is not shown), and it is
+     * added again if the scene or its root change (i.e. when the view is reloaded).
+     *
+     * @param stage Tracked view Stage (see {@link #track(Stage, Class)})
+     */
+    public void showOverlay(Stage stage) {
+        StageTracking tracking = (StageTracking) stage.getProperties().get(TRACKING_KEY);
+        if (tracking == null || tracking.overlay != null) {
+            return;
+        }
+
+        Label overlay = new Label();
+        overlay.getStyleClass().add("ainoha-frame-stats");
+        overlay.setStyle("-fx-background-color: rgba(0, 0, 0, 0.6); -fx-text-fill: white; -fx-padding: 2 6 2 6;");
+        overlay.setManaged(false);
+        overlay.setMouseTransparent(true);
+        overlay.relocate(4, 4);
+        tracking.overlay = overlay;
+
+        stage.sceneProperty().addListener(tracking.overlaySceneListener);
+        tracking.moveOverlay(null, stage.getScene());
+    }
+
+    private void startTimer() {
+        lastFrameNanos = -1;
+        timer.start();
+    }
+
+    private void stopTimer() {
+        timer.stop();
+        lastFrameNanos = -1;
+    }
+
+    private void onFrame(long nowNanos) {
+        if (lastFrameNanos >= 0) {
+            long frameNanos = nowNanos - lastFrameNanos;
+            overall.recordFrame(frameNanos);
+
+            Set<FrameCounters> recorded = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (StageTracking tracking : showingStages) {
+                if (recorded.add(tracking.counters)) {
+                    tracking.counters.recordFrame(frameNanos);
+                }
+                tracking.updateOverlay(nowNanos);
+            }
+        }
+
+        lastFrameNanos = nowNanos;
+    }
+
+    /**
+     * Frame and layout times of a set of views.
+     */
+    private static final class FrameCounters {
+        private final LatencyHistogram frameTimes = new LatencyHistogram();
+        private final LatencyHistogram layoutTimes = new LatencyHistogram();
+        private final AtomicLong droppedFrames = new AtomicLong();
+
+        void recordFrame(long frameNanos) {
+            frameTimes.record(frameNanos);
+
+            // A frame is dropped each time the expected frame time elapses without a pulse (half a frame of margin)
+            long missedFrames = (frameNanos + EXPECTED_FRAME_NANOS / 2) / EXPECTED_FRAME_NANOS - 1;
+            if (missedFrames > 0) {
+                droppedFrames.addAndGet(missedFrames);
+            }
+        }
+
+        FrameStats snapshot() {
+            return new FrameStats(frameTimes.getCount(),
+                                  droppedFrames.get(),
+                                  frameTimes.getTotal(),
+                                  frameTimes.getValueAtPercentile(50),
+                                  frameTimes.getValueAtPercentile(99),
+                                  layoutTimes.getValueAtPercentile(50),
+                                  layoutTimes.getValueAtPercentile(99));
+        }
+    }
+
+    /**
+     * Measuring state of a tracked Stage.
+     */
+    private final class StageTracking {
+        private final Stage stage;
+        private final Runnable preLayoutListener = this::preLayout;
+        private final Runnable postLayoutListener = this::postLayout;
+        private final ChangeListener<Scene> overlaySceneListener =
+                (observable, oldScene, newScene) -> moveOverlay(oldScene, newScene);
+        private final ChangeListener<Parent> overlayRootListener = (observable, oldRoot, newRoot) -> {
+            removeOverlayFrom(oldRoot);
+            addOverlayTo(newRoot);
+        };
+
+        private FrameCounters counters;
+        private Scene measuredScene;
+        private long layoutStartNanos;
+        private Label overlay;
+        private long lastOverlayUpdateNanos;
+
+        StageTracking(Stage stage) {
+            this.stage = stage;
+            stage.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> startMeasuring());
+            stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> stopMeasuring());
+        }
+
+        void startMeasuring() {
+            if (showingStages.add(this) && showingStages.size() == 1) {
+                startTimer();
+            }
+
+            Scene scene = stage.getScene();
+            if (scene != measuredScene) {
+                stopMeasuringLayout();
+                if (scene != null) {
+                    scene.addPreLayoutPulseListener(preLayoutListener);
+                    scene.addPostLayoutPulseListener(postLayoutListener);
+                }
+                measuredScene = scene;
+            }
+        }
+
+        void stopMeasuring() {
+            if (showingStages.remove(this) && showingStages.isEmpty()) {
+                stopTimer();
+            }
+            stopMeasuringLayout();
+        }
+
+        private void stopMeasuringLayout() {
+            if (measuredScene != null) {
+                measuredScene.removePreLayoutPulseListener(preLayoutListener);
+                measuredScene.removePostLayoutPulseListener(postLayoutListener);
+                measuredScene = null;
+            }
+        }
+
+        private void preLayout() {
+            layoutStartNanos = System.nanoTime();
+        }
+
+        private void postLayout() {
+            counters.layoutTimes.record(System.nanoTime() - layoutStartNanos);
+        }
+
+        void moveOverlay(Scene oldScene, Scene newScene) {
+            if (oldScene != null) {
+                oldScene.rootProperty().removeListener(overlayRootListener);
+                removeOverlayFrom(oldScene.getRoot());
+            }
+
+            if (newScene != null) {
+                newScene.rootProperty().addListener(overlayRootListener);
+                addOverlayTo(newScene.getRoot());
+            }
+        }
+
+        private void addOverlayTo(Parent root) {
+            if (root instanceof Pane) {
+                ((Pane) root).getChildren().add(overlay);
+                overlay.autosize();
+            } else if (root != null) {
+                LOGGER.fine("Frame statistics overlay not shown, the view root is not a " + Pane.class.getName());
+            }
+        }
+
+        private void removeOverlayFrom(Parent root) {
+            if (root instanceof Pane) {
+                ((Pane) root).getChildren().remove(overlay);
+            }
+        }
+
+        void updateOverlay(long nowNanos) {
+            if (overlay != null && nowNanos - lastOverlayUpdateNanos >= OVERLAY_UPDATE_NANOS) {
+                lastOverlayUpdateNanos = nowNanos;
+                overlay.setText(counters.snapshot().toString());
+                overlay.autosize();
+            }
+        }
+    }
+}
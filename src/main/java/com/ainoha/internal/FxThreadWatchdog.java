@@ -0,0 +1,243 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.internal.jfr.FrameworkEvents;
+import com.ainoha.internal.jfr.FxThreadStallEvent;
+import javafx.application.Platform;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Watchdog which detects when the JavaFX Application Thread is blocked (a pulse or an event handler takes too long),
+ * so the user interface does not respond.<br>
+ * <br>
+ * A daemon thread periodically posts a task to the JavaFX Application Thread. If the task has not been executed after
+ * the threshold, the JavaFX Application Thread stack is captured and reported (logged as warning and emitted as a
+ * {@link FxThreadStallEvent}). The report includes the view controller class and method found in the stack, if any,
+ * with the annotations of the method (i.e. {@code @FXML} for event handlers or {@code @PostInitialize}).<br>
+ * <br>
+ * Each stall is reported only once, and at most one stall per {@link #MIN_REPORT_INTERVAL_MILLIS} is reported.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class FxThreadWatchdog {
+
+    private static final Logger LOGGER = Logger.getLogger(FxThreadWatchdog.class.getName());
+
+    /**
+     * Minimum time between two reported stalls
+     */
+    static final long MIN_REPORT_INTERVAL_MILLIS = 5_000;
+
+    private static FxThreadWatchdog instance;
+
+    private final long thresholdNanos;
+
+    private volatile Thread fxThread;
+
+    /*
+     * Ping state. Only accessed by the watchdog thread, except pingPending which is cleared by the FX thread
+     */
+    private volatile boolean pingPending;
+    private long pingPostedNanos;
+    private boolean stallReported;
+    private long lastReportNanos;
+    private int unreportedStalls;
+
+    private FxThreadWatchdog(long thresholdMillis) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    /**
+     * Starts the watchdog, if it has not been started yet. The JavaFX runtime may not be started yet, in such case the
+     * watchdog waits for it.
+     *
+     * @param thresholdMillis Time, in milliseconds, after which the JavaFX Application Thread is considered stalled
+     */
+    public static synchronized void start(long thresholdMillis) {
+        if (instance != null) {
+            return;
+        }
+
+        if (thresholdMillis <= 0) {
+            throw new IllegalArgumentException("The watchdog threshold must be greater than 0");
+        }
+
+        instance = new FxThreadWatchdog(thresholdMillis);
+
+        Thread watchdogThread = new Thread(instance::watch, "ainoha-fx-watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+
+        LOGGER.info("JavaFX Application Thread watchdog started. Threshold: " + thresholdMillis + " ms");
+    }
+
+    private void watch() {
+        long checkIntervalMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(thresholdNanos) / 4);
+
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                check(System.nanoTime());
+                Thread.sleep(checkIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                LOGGER.fine("JavaFX Application Thread watchdog check failed: " + e);
+            }
+        }
+    }
+
+    private void check(long nowNanos) {
+        if (fxThread != null && !fxThread.isAlive()) {
+            // The JavaFX runtime was stopped
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (!pingPending) {
+            stallReported = false;
+            postPing(nowNanos);
+            return;
+        }
+
+        long stallNanos = nowNanos - pingPostedNanos;
+        if (stallNanos >= thresholdNanos && !stallReported && fxThread != null) {
+            stallReported = true;
+            reportStall(TimeUnit.NANOSECONDS.toMillis(stallNanos), nowNanos);
+        }
+    }
+
+    private void postPing(long nowNanos) {
+        try {
+            pingPending = true;
+            pingPostedNanos = nowNanos;
+            Platform.runLater(() -> {
+                fxThread = Thread.currentThread();
+                pingPending = false;
+            });
+        } catch (IllegalStateException e) {
+            // The JavaFX runtime is not started yet (or it was stopped)
+            pingPending = false;
+        }
+    }
+
+    private void reportStall(long stallMillis, long nowNanos) {
+        if (lastReportNanos != 0
+                && nowNanos - lastReportNanos < TimeUnit.MILLISECONDS.toNanos(MIN_REPORT_INTERVAL_MILLIS)) {
+            unreportedStalls++;
+            return;
+        }
+
+        lastReportNanos = nowNanos;
+
+        StackTraceElement[] stackTrace = fxThread.getStackTrace();
+        StallCulprit culprit = findCulprit(stackTrace);
+        String stackTraceText = Arrays.stream(stackTrace)
+                .map(element -> "\tat " + element)
+                .collect(Collectors.joining("\n"));
+
+        StringBuilder message = new StringBuilder("JavaFX Application Thread blocked for ")
+                .append(stallMillis).append(" ms");
+        if (culprit != null) {
+            message.append(" in ").append(culprit);
+        }
+        if (unreportedStalls > 0) {
+            message.append(" (").append(unreportedStalls).append(" previous stalls were not reported)");
+            unreportedStalls = 0;
+        }
+        LOGGER.warning(message.append('\n').append(stackTraceText).toString());
+
+        if (!FrameworkEvents.AVAILABLE) {
+            return;
+        }
+
+        var event = new FxThreadStallEvent();
+        if (event.shouldCommit()) {
+            event.stallTime = stallMillis;
+            event.controllerClass = culprit != null ? culprit.controllerClass.getName() : null;
+            event.controllerMethod = culprit != null ? culprit.method : null;
+            event.fxThreadStackTrace = stackTraceText;
+            event.commit();
+        }
+    }
+
+    /**
+     * Finds the top most frame of {@code stackTrace} which belongs to a view controller.
+     *
+     * @return Culprit of the stall or {@code null} if no view controller is in the stack
+     */
+    static StallCulprit findCulprit(StackTraceElement[] stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            String className = element.getClassName();
+
+            // Inner and anonymous classes, i.e. event handlers, are attributed to the enclosing controller
+            int innerClassSeparator = className.indexOf('$');
+            if (innerClassSeparator > 0) {
+                className = className.substring(0, innerClassSeparator);
+            }
+
+            var controllerClass = FxmlViewHelper.findLoadedController(className);
+            if (controllerClass.isPresent()) {
+                return new StallCulprit(controllerClass.get(), describeMethod(controllerClass.get(), element));
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return Method of {@code element}, including its annotations if it is a method declared in {@code controllerClass}
+     */
+    private static String describeMethod(Class<?> controllerClass, StackTraceElement element) {
+        String methodName = element.getMethodName();
+
+        for (Method method : controllerClass.getDeclaredMethods()) {
+            if (method.getName().equals(methodName) && method.getDeclaredAnnotations().length > 0) {
+                return Arrays.stream(method.getDeclaredAnnotations())
+                        .map(Annotation::annotationType)
+                        .map(type -> "@" + type.getSimpleName() + " ")
+                        .collect(Collectors.joining()) + methodName + "()";
+            }
+        }
+
+        return methodName + "()";
+    }
+
+    /**
+     * View controller method found in the stack of a stalled JavaFX Application Thread.
+     */
+    static final class StallCulprit {
+        final Class<?> controllerClass;
+        final String method;
+
+        StallCulprit(Class<?> controllerClass, String method) {
+            this.controllerClass = controllerClass;
+            this.method = method;
+        }
+
+        @Override
+        public String toString() {
+            return controllerClass.getName() + "." + method;
+        }
+    }
+}
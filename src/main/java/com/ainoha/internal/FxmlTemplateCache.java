@@ -0,0 +1,199 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.internal.utils.SystemProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of the FXML documents already loaded. Each document is read from the CLASSPATH only once, so views
+ * opened many times are not read again from the application JAR file. Only the reading is saved: the document is
+ * still parsed by {@link javafx.fxml.FXMLLoader} every time the view is loaded.<br>
+ * <br>
+ * The cached documents are bounded by a size in bytes (see system property {@code ainoha.fxmlCache.size}); when it
+ * is exceeded the least recently opened documents are discarded, and read again if their views are loaded later.
+ * The documents replaced by the {@link HotReloader} are out of the bound, since their content is not in the
+ * CLASSPATH.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class FxmlTemplateCache {
+
+    static final long DEFAULT_MAX_BYTES = 4 * 1024 * 1024;
+
+    private static final long maxBytes = SystemProperties.getLong(SystemProperties.FXML_CACHE_SIZE, DEFAULT_MAX_BYTES);
+
+    /**
+     * FXML documents content by URL (using {@link URL#toExternalForm()} as key, since {@link URL#equals(Object)}
+     * may perform name resolution), in access order. Guarded by its own lock
+     */
+    private static final LinkedHashMap<String, byte[]> templates = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Size, in bytes, of the documents in {@link #templates}. Guarded by the lock of {@link #templates}
+     */
+    private static long templatesBytes;
+
+    /**
+     * Documents content replaced by the {@link HotReloader}, by URL
+     */
+    private static final Map<String, byte[]> reloaded = new ConcurrentHashMap<>();
+
+    private FxmlTemplateCache() {}
+
+    /**
+     * Allows to get a stream with the content of the FXML document {@code viewURL}. The document is read and cached
+     * the first time this method is called for it.
+     *
+     * @param viewURL FXML view file URL
+     *
+     * @return Stream with the document content
+     *
+     * @throws IOException If the document could not be read
+     */
+    static InputStream open(URL viewURL) throws IOException {
+        byte[] content = cached(viewURL.toExternalForm());
+        if (content == null) {
+            // Read out of the lock, a document read twice concurrently is only cached once
+            try (InputStream in = viewURL.openStream()) {
+                content = in.readAllBytes();
+            }
+            cache(viewURL.toExternalForm(), content, maxBytes);
+        }
+
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Allows to know the size of the FXML document {@code viewURL} without reading it (if it is not cached yet).
+     *
+     * @param viewURL FXML view file URL
+     *
+     * @return Size of the document, in bytes, or {@code -1} if it could not be known
+     */
+    static long sizeOf(URL viewURL) {
+        byte[] content = cached(viewURL.toExternalForm());
+        if (content != null) {
+            return content.length;
+        }
+
+        try {
+            if ("file".equals(viewURL.getProtocol())) {
+                return Files.size(Paths.get(viewURL.toURI()));
+            }
+
+            // The JAR entries size is read from the JAR directory, without opening the entry
+            if ("jar".equals(viewURL.getProtocol())) {
+                return viewURL.openConnection().getContentLengthLong();
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            // Unknown
+        }
+
+        return -1;
+    }
+
+    /**
+     * Replaces the cached content of the FXML document {@code viewURL} (see {@link HotReloader}).
+     *
+     * @param viewURL FXML view file URL
+     * @param content New document content
+     */
+    static void put(URL viewURL, byte[] content) {
+        String key = viewURL.toExternalForm();
+        reloaded.put(key, content);
+
+        synchronized (templates) {
+            byte[] previous = templates.remove(key);
+            if (previous != null) {
+                templatesBytes -= previous.length;
+            }
+        }
+    }
+
+    /**
+     * @return Number of cached documents
+     */
+    static int size() {
+        synchronized (templates) {
+            return templates.size() + reloaded.size();
+        }
+    }
+
+    /**
+     * @return Size, in bytes, of the cached documents, without the ones replaced by the {@link HotReloader}
+     */
+    static long bytes() {
+        synchronized (templates) {
+            return templatesBytes;
+        }
+    }
+
+    /**
+     * Removes all cached documents.
+     */
+    static void clear() {
+        synchronized (templates) {
+            templates.clear();
+            templatesBytes = 0;
+        }
+        reloaded.clear();
+    }
+
+    private static byte[] cached(String key) {
+        byte[] content = reloaded.get(key);
+        if (content != null) {
+            return content;
+        }
+
+        synchronized (templates) {
+            return templates.get(key);
+        }
+    }
+
+    /**
+     * Caches the document {@code key}, discarding the least recently opened documents while the cached ones exceed
+     * {@code maxBytes}. Documents larger than {@code maxBytes} are not cached.
+     */
+    static void cache(String key, byte[] content, long maxBytes) {
+        if (content.length > maxBytes) {
+            return;
+        }
+
+        synchronized (templates) {
+            byte[] previous = templates.put(key, content);
+            templatesBytes += content.length - (previous != null ? previous.length : 0);
+
+            Iterator<byte[]> eldest = templates.values().iterator();
+            while (templatesBytes > maxBytes) {
+                templatesBytes -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+}
@@ -16,13 +16,25 @@
 package com.ainoha.internal;
 
 import com.ainoha.core.ApplicationContext;
+import com.ainoha.core.MessageSource;
+import com.ainoha.core.Overlay;
+import com.ainoha.core.Reloadable;
 import com.ainoha.core.annotation.*;
 import com.ainoha.core.exception.ControllerConstructorNotFoundException;
 import com.ainoha.core.exception.ShowingViewException;
 import com.ainoha.core.exception.ViewNotFoundException;
+import com.ainoha.core.metrics.CacheStats;
+import com.ainoha.core.metrics.StartupTimeline;
 import com.ainoha.internal.annotation.processors.AnnotationProcessorHub;
+import com.ainoha.internal.index.ControllerIndex;
+import com.ainoha.internal.jfr.AnnotationProcessEvent;
+import com.ainoha.internal.jfr.ControllerInjectEvent;
+import com.ainoha.internal.jfr.FrameworkEvents;
+import com.ainoha.internal.jfr.ViewLoadEvent;
 import com.ainoha.internal.utils.ReflectionUtil;
 import com.ainoha.internal.utils.StageUtil;
+import com.ainoha.internal.utils.SystemProperties;
+import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -32,17 +44,29 @@ import javafx.scene.input.KeyCombination;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.stage.WindowEvent;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * This class handle the process of loading and displaying FXML files as application views.<br>
@@ -54,6 +78,45 @@ import java.util.ResourceBundle;
  */
 public final class FxmlViewHelper {
 
+    private static final Logger LOGGER = Logger.getLogger(FxmlViewHelper.class.getName());
+
+    /**
+     * Metadata of each view controller class
+     */
+    private static final Map<Class<?>, ViewControllerMetadata> controllersMetadata = new ConcurrentHashMap<>();
+
+    /**
+     * Property of the overlay view roots (see {@link #showFxmlViewOverlay(Class, Scene, Object)}) holding their
+     * controller
+     */
+    private static final String OVERLAY_CONTROLLER_KEY = FxmlViewHelper.class.getName() + ".overlayController";
+
+    /**
+     * Decoded view icons, by URL
+     */
+    private static final Map<String, Image> viewIcons = new ConcurrentHashMap<>();
+
+    /**
+     * Builder factory shared by all the {@link FXMLLoader} instances
+     */
+    private static final CachingBuilderFactory BUILDER_FACTORY =
+            new CachingBuilderFactory(FXMLLoader.getDefaultClassLoader());
+
+    /**
+     * {@code <?import?>} processing instructions of a single class (see {@link #preloadView(Class)})
+     */
+    private static final Pattern FXML_IMPORT = Pattern.compile("<\\?import\\s+([\\w.$]+[\\w$])\\s*\\?>");
+
+    /*
+     * View lifecycle phases recorded in the startup timeline
+     */
+    private static final String CONTROLLER_CONSTRUCTION_PHASE = "Controller construction";
+    private static final String VIEW_LOADING_PHASE = "FXML loading";
+    private static final String DEPENDENCY_INJECTION_PHASE = "Dependency injection";
+    private static final String TITLE_RESOLUTION_PHASE = "Title resolution";
+    private static final String ANNOTATION_PROCESSING_PHASE = "Annotation processing";
+    private static final String WINDOW_SHOW_PHASE = "Window show";
+
     private FxmlViewHelper() {}
 
     /**
@@ -77,15 +140,18 @@ public final class FxmlViewHelper {
      * @param fullScreenExitKeyCombination Specifies the {@link KeyCombination} to exit full screen mode. If is
      *                                     {@code null} or {@code fullScreen == false} will be ignored so default
      *                                     JavaFX value will be used
+     * @param frameStatsOverlay  If {@code true} the frame statistics of the view are shown over it (see
+     *                           {@link FrameMonitor#showOverlay(Stage)})
      *
      * @throws ShowingViewException If an error occurs during method execution. Cause must contain more details
      */
     public static <T> T showFxmlView(Class<T> controllerClass, boolean waitFor, Stage viewStage, Stage owner,
                                      Object params, Modality modality, StageStyle stageStyle, boolean resizable,
                                      boolean maximized, boolean fullScreen, String fullScreenExitHint,
-                                     KeyCombination fullScreenExitKeyCombination) {
+                                     KeyCombination fullScreenExitKeyCombination, boolean frameStatsOverlay) {
 
         String viewFilePath = null;
+        long showStartNanos = System.nanoTime();
 
         try {
             var controllerMetadata = getControllerMetadata(controllerClass);
@@ -93,21 +159,7 @@ public final class FxmlViewHelper {
             Stage stage = viewStage == null ? new Stage() : viewStage;
 
             // Add the window icon
-            // By default, image defined in the application context must be used
-            Image viewImage = ApplicationContext.instance().getAppImage();
-
-            String viewIconPath = controllerMetadata.viewIconPath;
-            if (viewIconPath != null) {
-                InputStream appImageStream = controllerClass.getResourceAsStream(viewIconPath);
-                if (appImageStream != null) {
-                    viewImage = new Image(appImageStream);
-                }
-            }
-
-            if (viewImage != null) {
-                stage.getIcons().clear();
-                stage.getIcons().add(viewImage);
-            }
+            setStageIcon(stage, controllerClass, controllerMetadata);
 
             // Pass data to the view
             stage.setUserData(params);
@@ -137,11 +189,28 @@ public final class FxmlViewHelper {
             }
 
             // Create view controller instance
+            long startNanos = System.nanoTime();
             T controller = getControllerInstance(controllerClass);
+            recordPhase(CONTROLLER_CONSTRUCTION_PHASE, controllerClass, startNanos);
 
             // Load the FXML view file into the Stage
             viewFilePath = controllerMetadata.viewFilePath;
-            loadViewFromResources(stage, owner, controller, viewFilePath, controllerMetadata.titleKey, controllerMetadata.title, params);
+            loadViewFromResources(stage, owner, controller, controllerMetadata.viewURL, controllerMetadata.titleKey,
+                                  controllerMetadata.title, params);
+
+            recordWindowShown(stage, controllerClass, showStartNanos);
+            OpenViews.track(stage, controller);
+            HotReloader.get().ifPresent(hotReloader -> hotReloader.watch(stage, controller));
+            ViewPreloader.get().ifPresent(preloader -> preloader.viewShown(controllerClass));
+
+            // Measure the view frames
+            FrameMonitor frameMonitor = frameStatsOverlay ? FrameMonitor.enable() : FrameMonitor.get().orElse(null);
+            if (frameMonitor != null) {
+                frameMonitor.track(stage, controllerClass);
+                if (frameStatsOverlay) {
+                    frameMonitor.showOverlay(stage);
+                }
+            }
 
             // Display the view
             if (waitFor) {
@@ -156,6 +225,143 @@ public final class FxmlViewHelper {
         }
     }
 
+    /**
+     * Shows an FXML application view as a modal overlay over the content of {@code ownerScene} (see
+     * {@link ViewOverlays}), instead of in a new window. The view goes through the same process as when it is shown
+     * in a window (dependency injection and annotation processing). The {@link Stage} and {@link Scene} injected into
+     * the controller are the ones of {@code ownerScene}, and the {@link Overlay} is injected into the fields annotated
+     * with {@code @}{@link ViewOverlay}. Must be called on the JavaFX Application Thread.
+     *
+     * @param controllerClass View controller class. Must be annotated with {@code @}{@link FxmlController}
+     * @param ownerScene      Scene where the view is shown. Its root must be a {@link javafx.scene.layout.Pane}
+     * @param params          Is used to pass data to the view
+     *
+     * @return Controller instance of the displayed view
+     *
+     * @throws ShowingViewException If an error occurs during method execution. Cause must contain more details
+     */
+    public static <T> T showFxmlViewOverlay(Class<T> controllerClass, Scene ownerScene, Object params) {
+        Overlay[] overlay = new Overlay[1];
+
+        try {
+            return loadFxmlViewInto(controllerClass, params, root -> {
+                overlay[0] = ViewOverlays.show(ownerScene, root);
+                return ownerScene;
+            }, controller -> {
+                ReflectionUtil.setValueInAnnotatedFields(controller, ViewOverlay.class, overlay[0]);
+                // Allows to update the overlay texts after a language change
+                overlay[0].getView().getProperties().put(OVERLAY_CONTROLLER_KEY, controller);
+            });
+        } catch (ShowingViewException e) {
+            if (overlay[0] != null) {
+                overlay[0].close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Loads an FXML application view and displays its root through {@code display} (i.e. adding it to a region of an
+     * existing scene). The view goes through the same process as when it is shown in a window (dependency injection
+     * and annotation processing). The {@link Stage} and {@link Scene} injected into the controller are the ones where
+     * the root is displayed. Must be called on the JavaFX Application Thread.
+     *
+     * @param controllerClass View controller class. Must be annotated with {@code @}{@link FxmlController}
+     * @param params          Is used to pass data to the view
+     * @param display         Displays the view root, returning the scene which contains it (could be {@code null}
+     *                        if it is not in a scene yet)
+     *
+     * @return Controller instance of the displayed view
+     *
+     * @throws ShowingViewException If an error occurs during method execution. Cause must contain more details
+     */
+    public static <T> T loadFxmlViewInto(Class<T> controllerClass, Object params, Function<Parent, Scene> display) {
+        return loadFxmlViewInto(controllerClass, params, display, controller -> {});
+    }
+
+    private static <T> T loadFxmlViewInto(Class<T> controllerClass, Object params, Function<Parent, Scene> display,
+                                          Consumer<T> additionalInjection) {
+
+        String viewFilePath = null;
+        long showStartNanos = System.nanoTime();
+
+        try {
+            var controllerMetadata = getControllerMetadata(controllerClass);
+            viewFilePath = controllerMetadata.viewFilePath;
+
+            long startNanos = System.nanoTime();
+            T controller = getControllerInstance(controllerClass);
+            recordPhase(CONTROLLER_CONSTRUCTION_PHASE, controllerClass, startNanos);
+
+            ResourceBundle rb = viewResources(ApplicationContext.instance());
+
+            startNanos = System.nanoTime();
+            Parent root = loadViewRoot(controller, controllerMetadata.viewURL, rb);
+            recordPhase(VIEW_LOADING_PHASE, controllerClass, startNanos);
+
+            Scene scene = display.apply(root);
+
+            startNanos = System.nanoTime();
+            Stage stage = scene != null && scene.getWindow() instanceof Stage ? (Stage) scene.getWindow() : null;
+            injectControllerDependencies(controller, stage, scene, rb, controllerMetadata.viewURL, params);
+            additionalInjection.accept(controller);
+            recordPhase(DEPENDENCY_INJECTION_PHASE, controllerClass, startNanos);
+
+            startNanos = System.nanoTime();
+            processControllerAnnotations(controller);
+            recordPhase(ANNOTATION_PROCESSING_PHASE, controllerClass, startNanos);
+
+            ViewLatencies.recordShow(controllerClass, System.nanoTime() - showStartNanos);
+            ViewPreloader.get().ifPresent(preloader -> preloader.viewShown(controllerClass));
+            return controller;
+        } catch (Exception e) {
+            throw new ShowingViewException("An error occurred while showing the view '" + viewFilePath + "'", e);
+        }
+    }
+
+    /**
+     * Loads an FXML application view in a new {@link Stage} which is never displayed. The view goes through the same
+     * process as when it is shown (dependency injection, window title and annotation processing), and then its styles
+     * and layout are computed.<br>
+     * <br>
+     * This allows to exercise the view loading code without user interaction (see
+     * {@link ApplicationContext#startApplication(Class, String...)} training mode). Must be called on the JavaFX
+     * Application Thread.
+     *
+     * @param controllerClass View controller class. Must be annotated with {@code @}{@link FxmlController}
+     *
+     * @return Controller instance of the loaded view
+     *
+     * @throws ShowingViewException If an error occurs during method execution. Cause must contain more details
+     */
+    public static <T> T loadFxmlViewOffscreen(Class<T> controllerClass) {
+        String viewFilePath = null;
+
+        try {
+            var controllerMetadata = getControllerMetadata(controllerClass);
+            viewFilePath = controllerMetadata.viewFilePath;
+
+            Stage stage = new Stage();
+            setStageIcon(stage, controllerClass, controllerMetadata);
+
+            long startNanos = System.nanoTime();
+            T controller = getControllerInstance(controllerClass);
+            recordPhase(CONTROLLER_CONSTRUCTION_PHASE, controllerClass, startNanos);
+
+            loadViewFromResources(stage, null, controller, controllerMetadata.viewURL, controllerMetadata.titleKey,
+                                  controllerMetadata.title, null);
+
+            // Same work done by JavaFX before the view is displayed
+            Parent root = stage.getScene().getRoot();
+            root.applyCss();
+            root.layout();
+
+            return controller;
+        } catch (Exception e) {
+            throw new ShowingViewException("An error occurred while loading the view '" + viewFilePath + "'", e);
+        }
+    }
+
     /**
      * Allows to load the view specified by the annotation {@code @}{@link FxmlController} defined in the
      * {@code controller} class. {@code controller} will be defined as the view controller.
@@ -168,6 +374,25 @@ public final class FxmlViewHelper {
      * @return View root
      */
     public static Parent loadFxmlViewAsParent(Object controller, boolean fully) {
+        Parent root = loadFxmlViewRoot(controller);
+        processReloadedView(controller, fully);
+        return root;
+    }
+
+    /**
+     * First step of {@link #loadFxmlViewAsParent(Object, boolean)}: builds the node tree of the view of
+     * {@code controller}. The {@code @}{@link FXML} annotated controller fields are injected and its
+     * {@code initialize()} method is called, as {@link FXMLLoader} does.<br>
+     * <br>
+     * This method could be called out of the JavaFX Application Thread, provided that the view does not contain nodes
+     * which must be created on it (i.e. {@code WebView}).
+     *
+     * @param controller Controller of the view. This object class must be annotated with
+     *                   {@code @}{@link FxmlController}
+     *
+     * @return View root
+     */
+    public static Parent loadFxmlViewRoot(Object controller) {
         String viewFilePath = null;
 
         try {
@@ -175,22 +400,46 @@ public final class FxmlViewHelper {
 
             var controllerMetadata = getControllerMetadata(controllerClass);
             viewFilePath = controllerMetadata.viewFilePath;
-            FXMLLoader loader = new FXMLLoader(controllerClass.getResource(viewFilePath));
-
-            // Override the FXML file controller definition
-            loader.setController(controller);
 
             // Set the language resource for render view texts in de current locale
-            ApplicationContext context = ApplicationContext.instance();
-            ResourceBundle rb = context.getResourceBundle();
-            loader.setResources(rb);
+            ResourceBundle rb = viewResources(ApplicationContext.instance());
 
-            // Execute the JavaFX loading process
-            Parent root = loader.load();
+            long startNanos = System.nanoTime();
+            Parent root = loadViewRoot(controller, controllerMetadata.viewURL, rb);
+            recordPhase(VIEW_LOADING_PHASE, controllerClass, startNanos);
+
+            return root;
+        } catch (Exception e) {
+            throw new ShowingViewException("An error occurred while showing the view  '" + viewFilePath
+                    + "' associated with the controller " + controller.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Second step of {@link #loadFxmlViewAsParent(Object, boolean)}: injects the dependencies of {@code controller}
+     * and processes its annotated members. Must be called on the JavaFX Application Thread.
+     *
+     * @param controller Controller of the view loaded by {@link #loadFxmlViewRoot(Object)}
+     * @param fully      If {@code true} all controller class members (related with Ainoha Framework) will
+     *                   be processed, otherwise only the fields will be
+     */
+    public static void processReloadedView(Object controller, boolean fully) {
+        String viewFilePath = null;
+
+        try {
+            Class controllerClass = controller.getClass();
+
+            var controllerMetadata = getControllerMetadata(controllerClass);
+            viewFilePath = controllerMetadata.viewFilePath;
+
+            ResourceBundle rb = viewResources(ApplicationContext.instance());
 
             // Inject dependencies to the view controller
-            injectControllerDependencies(controller, null, null, rb, loader.getLocation(), null);
+            long startNanos = System.nanoTime();
+            injectControllerDependencies(controller, null, null, rb, controllerMetadata.viewURL, null);
+            recordPhase(DEPENDENCY_INJECTION_PHASE, controllerClass, startNanos);
 
+            startNanos = System.nanoTime();
             if (fully) {
                 // Processes all controller class members (fields and methods) related with Ainoha Framework
                 processControllerAnnotations(controller);
@@ -202,22 +451,148 @@ public final class FxmlViewHelper {
                 // be lost
                 processControllerAnnotationsForFxmlAnnotatedFields(controller);
             }
-
-            return root;
+            recordPhase(ANNOTATION_PROCESSING_PHASE, controllerClass, startNanos);
         } catch (Exception e) {
             throw new ShowingViewException("An error occurred while showing the view  '" + viewFilePath
                     + "' associated with the controller " + controller.getClass().getName(), e);
         }
     }
 
+    /**
+     * @return Language resources for the views: the current language resources merged with the default language
+     *         resources (see {@link ApplicationContext#getMessageSource()}), or {@code null} if there are not language
+     *         resources
+     */
+    private static ResourceBundle viewResources(ApplicationContext context) {
+        MessageSource messageSource = context.getMessageSource();
+        return messageSource.isEmpty() ? null : messageSource.asResourceBundle();
+    }
+
+    /**
+     * Prepares the view of {@code controllerClass} to be shown without creating any node: resolves the controller
+     * metadata, reads the FXML document into memory (see {@link FxmlTemplateCache}), resolves the classes imported by
+     * the document (and whether they need a builder, see {@link CachingBuilderFactory}) and decodes the view icon. Can
+     * be called from any thread (see {@link ViewPreloader}).
+     *
+     * @param controllerClass View controller class. Must be annotated with {@code @}{@link FxmlController}
+     *
+     * @throws IOException If the FXML document could not be read
+     */
+    static void preloadView(Class<?> controllerClass) throws IOException {
+        var controllerMetadata = getControllerMetadata(controllerClass);
+
+        byte[] content;
+        try (InputStream template = FxmlTemplateCache.open(controllerMetadata.viewURL)) {
+            content = template.readAllBytes();
+        }
+
+        // The failed lookups are cached too. Wildcard imports are left to the FXMLLoader
+        ClassLoader classLoader = CachingClassLoader.of(FXMLLoader.getDefaultClassLoader());
+        Matcher matcher = FXML_IMPORT.matcher(new String(content, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            try {
+                BUILDER_FACTORY.getBuilder(classLoader.loadClass(matcher.group(1)));
+            } catch (ClassNotFoundException e) {
+                // The FXMLLoader will report it when the view is shown
+            }
+        }
+
+        String viewIconPath = controllerMetadata.viewIconPath;
+        if (viewIconPath != null && !viewIconPath.isBlank()) {
+            URL viewIconURL = controllerClass.getResource(viewIconPath);
+            if (viewIconURL != null) {
+                viewIcons.computeIfAbsent(viewIconURL.toExternalForm(), Image::new);
+            }
+        }
+    }
+
+    /**
+     * @return URL of the FXML file of the view of {@code controllerClass}
+     */
+    static URL viewUrlOf(Class<?> controllerClass) {
+        return getControllerMetadata(controllerClass).viewURL;
+    }
+
+    /**
+     * @return Title key of the view of {@code controllerClass} (see {@link FxmlController#titleKey()})
+     */
+    public static String titleKeyOf(Class<?> controllerClass) {
+        return getControllerMetadata(controllerClass).titleKey;
+    }
+
+    /**
+     * @return Statistics of the class lookups made by the {@link FXMLLoader} instances
+     */
+    public static CacheStats classResolutionCacheStats() {
+        return CachingClassLoader.stats();
+    }
+
+    /**
+     * @return Statistics of the {@link javafx.util.Builder} lookups made by the {@link FXMLLoader} instances
+     */
+    public static CacheStats builderFactoryCacheStats() {
+        return BUILDER_FACTORY.stats();
+    }
+
+    /**
+     * @return Number of FXML documents kept in memory (see {@link FxmlTemplateCache})
+     */
+    public static int cachedViewTemplates() {
+        return FxmlTemplateCache.size();
+    }
+
+    /**
+     * @return Number of decoded view icons kept in memory
+     */
+    public static int cachedViewIcons() {
+        return viewIcons.size();
+    }
+
+    /**
+     * @return Number of controller classes whose metadata is kept in memory
+     */
+    public static int cachedControllersMetadata() {
+        return controllersMetadata.size();
+    }
+
+    /**
+     * Clears all the view loading caches: FXML documents, controllers metadata, view icons, classes resolved by the
+     * {@link FXMLLoader} instances and {@link javafx.util.Builder} lookups. Caches are filled again as views are
+     * loaded.
+     */
+    public static void clearCaches() {
+        FxmlTemplateCache.clear();
+        controllersMetadata.clear();
+        viewIcons.clear();
+        CachingClassLoader.clear();
+        BUILDER_FACTORY.clear();
+    }
+
+    /**
+     * @param className Class name
+     *
+     * @return The view controller class named {@code className}, if a view of this controller has been loaded
+     */
+    static Optional<Class<?>> findLoadedController(String className) {
+        for (Class<?> controllerClass : controllersMetadata.keySet()) {
+            if (controllerClass.getName().equals(className)) {
+                return Optional.of(controllerClass);
+            }
+        }
+
+        return Optional.empty();
+    }
+
     static class ViewControllerMetadata {
         private String viewFilePath;
+        private URL viewURL;
         private String viewIconPath;
         private String titleKey;
         private String title;
 
-        public ViewControllerMetadata(String viewFilePath, String viewIconPath, String titleKey, String title) {
+        public ViewControllerMetadata(String viewFilePath, URL viewURL, String viewIconPath, String titleKey, String title) {
             this.viewFilePath = viewFilePath;
+            this.viewURL = viewURL;
             this.viewIconPath = viewIconPath;
             this.titleKey = titleKey;
             this.title = title;
@@ -237,6 +612,26 @@ public final class FxmlViewHelper {
      *                                  found
      */
     private static ViewControllerMetadata getControllerMetadata(Class controllerClass) {
+        return controllersMetadata.computeIfAbsent(controllerClass, FxmlViewHelper::resolveControllerMetadata);
+    }
+
+    /**
+     * Resolves the {@code controllerClass} metadata. It is taken from the controllers index when the class is indexed
+     * (its FXML file was validated at build time), otherwise from the {@code @}{@link FxmlController} annotation.
+     *
+     * @see #getControllerMetadata(Class)
+     */
+    private static ViewControllerMetadata resolveControllerMetadata(Class<?> controllerClass) {
+        var indexEntry = ControllerIndex.entryFor(controllerClass);
+        if (indexEntry.isPresent()) {
+            var entry = indexEntry.get();
+            return new ViewControllerMetadata(entry.getFxmlPath(),
+                                              getViewURL(controllerClass, entry.getFxmlPath()),
+                                              entry.getIconPath(),
+                                              entry.getTitleKey(),
+                                              entry.getTitle());
+        }
+
         FxmlController controllerAnnotation = (FxmlController) controllerClass.getDeclaredAnnotation(FxmlController.class);
 
         if (controllerAnnotation == null) {
@@ -255,17 +650,95 @@ public final class FxmlViewHelper {
             viewFilePath += ".fxml";
         }
 
-        if (controllerClass.getResource(viewFilePath) == null) {
-            throw new ViewNotFoundException("The FXML view file '" + viewFilePath + "' defined in "
-                    + controllerClass.getName() + "was not found");
-        }
-
         return new ViewControllerMetadata(viewFilePath,
+                                          getViewURL(controllerClass, viewFilePath),
                                           controllerAnnotation.iconPath(),
                                           controllerAnnotation.titleKey(),
                                           controllerAnnotation.title());
     }
 
+    /**
+     * @throws ViewNotFoundException If the FXML file {@code viewFilePath} is not found
+     */
+    private static URL getViewURL(Class<?> controllerClass, String viewFilePath) {
+        URL viewURL = controllerClass.getResource(viewFilePath);
+
+        if (viewURL == null) {
+            throw new ViewNotFoundException("The FXML view file '" + viewFilePath + "' defined in "
+                    + controllerClass.getName() + "was not found");
+        }
+
+        return viewURL;
+    }
+
+    /**
+     * Records in the startup timeline the {@code controllerClass} lifecycle phase {@code phase}, which started at
+     * {@code startNanos} and ends now.
+     */
+    private static void recordPhase(String phase, Class<?> controllerClass, long startNanos) {
+        StartupTimeline timeline = ApplicationContext.instance().getStartupTimeline();
+        if (timeline != null) {
+            timeline.record(phase, controllerClass.getName(), startNanos, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records the view show latency (see {@link ViewLatencies}), from {@code showStartNanos} until {@code stage} is
+     * shown, and in the startup timeline the time taken to show {@code stage}, from now until the window is shown. If
+     * it is the first application window, the time to first window is recorded too.<br>
+     * <br>
+     * If {@code stage} is already showing (the view is loaded in a showing Stage) only the latency is recorded.
+     */
+    private static void recordWindowShown(Stage stage, Class<?> controllerClass, long showStartNanos) {
+        if (stage.isShowing()) {
+            ViewLatencies.recordShow(controllerClass, System.nanoTime() - showStartNanos);
+            return;
+        }
+
+        StartupTimeline timeline = ApplicationContext.instance().getStartupTimeline();
+        long startNanos = System.nanoTime();
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, new EventHandler<>() {
+            @Override
+            public void handle(WindowEvent event) {
+                stage.removeEventHandler(WindowEvent.WINDOW_SHOWN, this);
+
+                long nowNanos = System.nanoTime();
+                ViewLatencies.recordShow(controllerClass, nowNanos - showStartNanos);
+
+                if (timeline != null) {
+                    timeline.record(WINDOW_SHOW_PHASE, controllerClass.getName(), startNanos, nowNanos);
+                    if (timeline.markFirstWindowShown()) {
+                        LOGGER.info("Time to first window: "
+                                + timeline.getTimeToFirstWindow().map(Duration::toMillis).orElse(0L) + " ms");
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets the {@code stage} icon. The icon defined by the controller metadata is used if it exists, otherwise the
+     * application image (see {@link ApplicationContext#getAppImage()}).
+     */
+    private static void setStageIcon(Stage stage, Class<?> controllerClass, ViewControllerMetadata controllerMetadata) {
+        // By default, image defined in the application context must be used
+        Image viewImage = ApplicationContext.instance().getAppImage();
+
+        String viewIconPath = controllerMetadata.viewIconPath;
+        if (viewIconPath != null && !viewIconPath.isBlank()) {
+            URL viewIconURL = controllerClass.getResource(viewIconPath);
+            if (viewIconURL != null) {
+                // Icons are decoded only once
+                viewImage = viewIcons.computeIfAbsent(viewIconURL.toExternalForm(), Image::new);
+            }
+        }
+
+        if (viewImage != null) {
+            stage.getIcons().clear();
+            stage.getIcons().add(viewImage);
+        }
+    }
+
     /**
      * Creates an instance of {@code controllerClass}. A non-argument or default constructor is required.
      *
@@ -293,7 +766,7 @@ public final class FxmlViewHelper {
     }
 
     /**
-     * Load the view {@code viewFileName} in the {@code viewStage}.<br>
+     * Load the view {@code viewURL} in the {@code viewStage}.<br>
      * <br>
      * This process include:<br>
      * - inject dependencies,<br>
@@ -304,30 +777,27 @@ public final class FxmlViewHelper {
      * @param owner          Owner of the Stage where the view will be displayed. If is {@code null} will not
      *                       be defined
      * @param viewController View controller class. Must be annotated with {@code @}{@link FxmlController}
-     * @param viewFilePath   Path, in the CLASSPATH, to the view FXML file (i.e. /com/my/app/view.fxml)
+     * @param viewURL        FXML view file URL
      * @param stageTitleKey  Window title key within language resources
      * @param stageTitle     Window title. This override the value taken from {@code stageTitleKey}
      */
     private static void loadViewFromResources(Stage viewStage,
                                               Stage owner,
                                               Object viewController,
-                                              String viewFilePath,
+                                              URL viewURL,
                                               String stageTitleKey,
                                               String stageTitle,
                                               Object viewParams) throws IOException {
 
-        FXMLLoader loader = new FXMLLoader(viewController.getClass().getResource(viewFilePath));
-
-        // Override the FXML file controller definition
-        loader.setController(viewController);
-
         // Set the language resource for render view texts in de current locale
         ApplicationContext context = ApplicationContext.instance();
-        ResourceBundle rb = context.getResourceBundle();
-        loader.setResources(rb);
+        ResourceBundle rb = viewResources(context);
+
+        Class<?> controllerClass = viewController.getClass();
 
-        // Execute the JavaFX loading process
-        Parent root = loader.load();
+        long startNanos = System.nanoTime();
+        Parent root = loadViewRoot(viewController, viewURL, rb);
+        recordPhase(VIEW_LOADING_PHASE, controllerClass, startNanos);
 
         // If the stage have a scene it is reused
         if (viewStage.getScene() != null) {
@@ -345,13 +815,137 @@ public final class FxmlViewHelper {
         }
 
         // Inject dependencies to the view controller
-        injectControllerDependencies(viewController, viewStage, viewStage.getScene(), rb, loader.getLocation(), viewParams);
+        startNanos = System.nanoTime();
+        injectControllerDependencies(viewController, viewStage, viewStage.getScene(), rb, viewURL, viewParams);
+        recordPhase(DEPENDENCY_INJECTION_PHASE, controllerClass, startNanos);
 
         // Set window title
+        startNanos = System.nanoTime();
         StageUtil.setStageTitle(context, viewStage, stageTitleKey, stageTitle);
+        recordPhase(TITLE_RESOLUTION_PHASE, controllerClass, startNanos);
 
         // Process all controller class members (fields and methods) related with Ainoha Framework
+        startNanos = System.nanoTime();
         processControllerAnnotations(viewController);
+        recordPhase(ANNOTATION_PROCESSING_PHASE, controllerClass, startNanos);
+
+        if (SystemProperties.isEnabled(SystemProperties.INPUT_LATENCY)) {
+            InputLatencyMonitor.trackScene(viewStage.getScene(), controllerClass);
+        }
+    }
+
+    /**
+     * Updates the localized texts of a showing view with the current language resources, keeping its node tree and
+     * state (scroll positions, selections, text input, etc.). The language resources are injected again into the
+     * controller (see {@code @}{@link ViewResourceBundle}), but no other controller member is processed.<br>
+     * <br>
+     * This method must be called on the JavaFX Application Thread.
+     *
+     * @param controller View controller
+     * @param root       View root
+     *
+     * @return {@code false} if the view texts could not be updated, because they were not recorded when the view was
+     *         loaded (there were no language resources) or because the resource key of any text is ambiguous.
+     *         Nothing is changed in such case
+     */
+    public static boolean reloadViewTexts(Object controller, Parent root) {
+        var texts = LocalizedTexts.of(root);
+        if (texts.isEmpty()) {
+            return false;
+        }
+
+        ResourceBundle rb = viewResources(ApplicationContext.instance());
+        if (rb == null || !texts.get().apply(rb)) {
+            return false;
+        }
+
+        injectControllerDependencies(controller, null, null, rb, null, null);
+        return true;
+    }
+
+    /**
+     * Updates the localized texts and the titles of all the showing views, including the overlay views (see
+     * {@link ViewOverlays}), with the current language resources (see {@link #reloadViewTexts(Object, Parent)}).
+     * Window views whose texts can not be updated in place are reloaded if their controllers implement
+     * {@link Reloadable}.<br>
+     * <br>
+     * This method must be called on the JavaFX Application Thread.
+     */
+    public static void updateOpenViewsTexts() {
+        ApplicationContext context = ApplicationContext.instance();
+
+        ViewOverlays.showing().forEach(overlay -> {
+            Object controller = overlay.getView().getProperties().get(OVERLAY_CONTROLLER_KEY);
+            if (controller != null && !reloadViewTexts(controller, overlay.getView())) {
+                LOGGER.fine("Texts of the overlay view of " + controller.getClass().getName()
+                        + " could not be updated");
+            }
+        });
+
+        OpenViews.views().forEach((stage, controller) -> {
+            if (stage.getScene() == null) {
+                return;
+            }
+
+            if (reloadViewTexts(controller, stage.getScene().getRoot())) {
+                StageUtil.setStageTitle(context, stage, getControllerMetadata(controller.getClass()).titleKey, null);
+            } else if (controller instanceof Reloadable) {
+                ((Reloadable) controller).reloadUI();
+            } else {
+                LOGGER.fine("Texts of the view of " + controller.getClass().getName() + " could not be updated");
+            }
+        });
+    }
+
+    /**
+     * Builds the node tree of the view {@code viewURL} using {@code viewController} as its controller. The FXML file
+     * is loaded through {@link FXMLLoader} (reading it only the first time, see {@link FxmlTemplateCache}).<br>
+     * <br>
+     * The language resources of the view are remembered, so its localized texts can be updated without loading the
+     * view again (see {@link #reloadViewTexts(Object, Parent)}).
+     *
+     * @param viewController View controller instance
+     * @param viewURL        FXML view file URL
+     * @param rb             Language resources
+     *
+     * @return View root
+     */
+    private static Parent loadViewRoot(Object viewController, URL viewURL, ResourceBundle rb) throws IOException {
+        var event = FrameworkEvents.AVAILABLE ? new ViewLoadEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        FXMLLoader loader = new FXMLLoader(viewURL, rb, BUILDER_FACTORY);
+
+        // Classes imported by the FXML files are resolved only once for all loaders
+        loader.setClassLoader(CachingClassLoader.of(FXMLLoader.getDefaultClassLoader()));
+
+        // Override the FXML file controller definition
+        loader.setController(viewController);
+
+        // Execute the JavaFX loading process. The FXML document is taken from memory when it was already loaded
+        Parent root;
+        try (InputStream template = FxmlTemplateCache.open(viewURL)) {
+            root = loader.load(template);
+        }
+
+        if (rb != null) {
+            // The localized texts are only found if the language changes
+            LocalizedTexts.remember(root, rb, viewURL);
+        }
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.controllerClass = viewController.getClass();
+                event.fxmlPath = viewURL.toExternalForm();
+                event.nodeCount = FrameworkEvents.countNodes(root);
+                event.commit();
+            }
+        }
+
+        return root;
     }
 
     /**
@@ -366,6 +960,11 @@ public final class FxmlViewHelper {
     private static void injectControllerDependencies(Object viewController, Stage stage, Scene scene, ResourceBundle rb,
                                                      URL viewURL, Object params) {
 
+        var event = FrameworkEvents.AVAILABLE ? new ControllerInjectEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
         if (ReflectionUtil.isAnnotatedWith(viewController.getClass(), FxmlController.class)) {
             if (stage != null) {
                 ReflectionUtil.setValueInAnnotatedFields(viewController, ViewStage.class, stage);
@@ -387,6 +986,14 @@ public final class FxmlViewHelper {
                 ReflectionUtil.setValueInAnnotatedFields(viewController, ViewParams.class, params);
             }
         }
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.controllerClass = viewController.getClass();
+                event.commit();
+            }
+        }
     }
 
     /**
@@ -404,8 +1011,29 @@ public final class FxmlViewHelper {
             AnnotationProcessorHub.registeredProcessorClasses()
                     .stream()
                     .filter(accessibleObject::isAnnotationPresent)
-                    .map(AnnotationProcessorHub::forAnnotationClass)
-                    .forEach(annotationProcessor -> annotationProcessor.process(accessibleObject, viewController));
+                    .forEach(annotationClass -> processAnnotation(annotationClass, accessibleObject, viewController));
+        }
+    }
+
+    /**
+     * Processes the annotation {@code annotationClass} of the {@code viewController} member {@code member}.
+     */
+    private static void processAnnotation(Class<?> annotationClass, AccessibleObject member, Object viewController) {
+        var event = FrameworkEvents.AVAILABLE ? new AnnotationProcessEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        AnnotationProcessorHub.forAnnotationClass(annotationClass).process(member, viewController);
+
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.controllerClass = viewController.getClass();
+                event.annotation = annotationClass;
+                event.member = ((Member) member).getName();
+                event.commit();
+            }
         }
     }
 
@@ -425,8 +1053,7 @@ public final class FxmlViewHelper {
             AnnotationProcessorHub.registeredProcessorClasses()
                     .stream()
                     .filter(field::isAnnotationPresent)
-                    .map(AnnotationProcessorHub::forAnnotationClass)
-                    .forEach(annotationProcessor -> annotationProcessor.process(field, viewController));
+                    .forEach(annotationClass -> processAnnotation(annotationClass, field, viewController));
         }
     }
 }
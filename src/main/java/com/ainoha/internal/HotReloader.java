@@ -0,0 +1,372 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.Reloadable;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Development mode in which the showing views are updated when their FXML files or stylesheets change, without
+ * restarting the application. The source directories of the files used by the showing views are watched through a
+ * {@link WatchService} and, once the changes stop for {@link #DEBOUNCE_MILLIS} milliseconds:<br>
+ * - Changed FXML files are read from the source directory (replacing the cached document, see
+ * {@link FxmlTemplateCache}) and the views using them are reloaded through {@link Reloadable#reloadUI()}. Views whose
+ * controllers do not implement {@link Reloadable} are updated the next time they are shown.<br>
+ * - Changed stylesheets are replaced, in the scenes and parents using them, by the source file, so only them are
+ * parsed again.<br>
+ * <br>
+ * Source files are found matching the path of the files within the CLASSPATH with the source directories (i.e. the
+ * source file of {@code target/classes/com/app/main.fxml} is {@code src/main/resources/com/app/main.fxml}). The FXML
+ * files included by other FXML files ({@code <fx:include>}) are not watched.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class HotReloader {
+
+    private static final Logger LOGGER = Logger.getLogger(HotReloader.class.getName());
+
+    /**
+     * Time, in milliseconds, without changes after which the changed files are applied
+     */
+    static final long DEBOUNCE_MILLIS = 200;
+
+    private static volatile HotReloader instance;
+
+    private final List<Path> sourceRoots;
+    private final WatchService watchService;
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * FXML views URL by source file
+     */
+    private final Map<Path, URL> fxmlFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Stylesheets URLs (as used by the scenes and parents) by source file
+     */
+    private final Map<Path, Set<String>> stylesheetFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Source file URL of the changed stylesheets, by the URL used by the scenes and parents
+     */
+    private final Map<String, String> replacedStylesheets = new ConcurrentHashMap<>();
+
+    private HotReloader(List<Path> sourceRoots, WatchService watchService) {
+        this.sourceRoots = sourceRoots;
+        this.watchService = watchService;
+    }
+
+    /**
+     * Starts watching the source directories {@code sourceRoots}. Only the first call has effect.
+     *
+     * @param sourceRoots Source directories, separated by {@link File#pathSeparator}
+     */
+    public static synchronized void start(String sourceRoots) {
+        if (instance != null) {
+            return;
+        }
+
+        List<Path> roots = new ArrayList<>();
+        for (String root : sourceRoots.split(File.pathSeparator)) {
+            Path path = Paths.get(root.trim()).toAbsolutePath().normalize();
+            if (Files.isDirectory(path)) {
+                roots.add(path);
+            } else {
+                LOGGER.warning("Hot reload source directory " + path + " does not exist");
+            }
+        }
+
+        if (roots.isEmpty()) {
+            return;
+        }
+
+        try {
+            instance = new HotReloader(roots, FileSystems.getDefault().newWatchService());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Hot reload could not be started", e);
+            return;
+        }
+
+        Thread thread = new Thread(instance::watchChanges, "ainoha-hot-reload");
+        thread.setDaemon(true);
+        thread.start();
+
+        LOGGER.info("Hot reload enabled for " + roots);
+    }
+
+    /**
+     * @return The hot reloader or an empty {@link Optional} if it was not started
+     */
+    static Optional<HotReloader> get() {
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * Starts watching the source files of the FXML file and the stylesheets of the view shown in {@code stage}. Must
+     * be called on the JavaFX Application Thread.
+     *
+     * @param stage      View Stage
+     * @param controller View controller
+     */
+    void watch(Stage stage, Object controller) {
+        URL viewURL = FxmlViewHelper.viewUrlOf(controller.getClass());
+        toSourceFile(sourceRoots, viewURL.toExternalForm()).ifPresent(source -> {
+            fxmlFiles.put(source, viewURL);
+            watchDirectory(source.getParent());
+        });
+
+        Scene scene = stage.getScene();
+        if (scene != null) {
+            forEachStylesheetList(scene, stylesheets -> {
+                for (String stylesheet : stylesheets) {
+                    toSourceFile(sourceRoots, stylesheet).ifPresent(source -> {
+                        stylesheetFiles.computeIfAbsent(source, s -> ConcurrentHashMap.newKeySet()).add(stylesheet);
+                        watchDirectory(source.getParent());
+                    });
+                }
+            });
+
+            // Stylesheets changed before the view was loaded
+            forEachStylesheetList(scene, stylesheets -> stylesheets.replaceAll(
+                    stylesheet -> replacedStylesheets.getOrDefault(stylesheet, stylesheet)));
+        }
+    }
+
+    private void watchDirectory(Path directory) {
+        if (!watchedDirectories.add(directory)) {
+            return;
+        }
+
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            watchedDirectories.remove(directory);
+            LOGGER.log(Level.WARNING, "Directory " + directory + " could not be watched", e);
+        }
+    }
+
+    private void watchChanges() {
+        try {
+            while (true) {
+                Set<Path> changedFiles = new HashSet<>();
+                collectChanges(watchService.take(), changedFiles);
+
+                // Editors usually write a file in several steps, so the changes are applied once they stop
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collectChanges(key, changedFiles);
+                }
+
+                changedFiles.retainAll(union(fxmlFiles.keySet(), stylesheetFiles.keySet()));
+                if (!changedFiles.isEmpty()) {
+                    Platform.runLater(() -> apply(changedFiles));
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            LOGGER.fine("Hot reload stopped");
+        }
+    }
+
+    private static void collectChanges(WatchKey key, Set<Path> changedFiles) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path) {
+                changedFiles.add(directory.resolve((Path) event.context()).normalize());
+            }
+        }
+        key.reset();
+    }
+
+    private static Set<Path> union(Set<Path> first, Set<Path> second) {
+        Set<Path> union = new HashSet<>(first);
+        union.addAll(second);
+        return union;
+    }
+
+    private void apply(Set<Path> changedFiles) {
+        for (Path file : changedFiles) {
+            Set<String> stylesheets = stylesheetFiles.get(file);
+            if (stylesheets != null) {
+                reloadStylesheet(file, stylesheets);
+            }
+
+            URL viewURL = fxmlFiles.get(file);
+            if (viewURL != null) {
+                reloadViews(file, viewURL);
+            }
+        }
+    }
+
+    private void reloadStylesheet(Path file, Set<String> stylesheets) {
+        String sourceStylesheet = file.toUri().toString();
+        stylesheets.forEach(stylesheet -> replacedStylesheets.put(stylesheet, sourceStylesheet));
+
+        OpenViews.views().keySet().forEach(stage -> {
+            if (stage.getScene() == null) {
+                return;
+            }
+
+            forEachStylesheetList(stage.getScene(), list -> {
+                for (int i = 0; i < list.size(); i++) {
+                    String stylesheet = list.get(i);
+                    if (stylesheet.equals(sourceStylesheet)) {
+                        // The stylesheet is parsed again when it is no longer used
+                        list.remove(i);
+                        list.add(i, sourceStylesheet);
+                    } else if (stylesheets.contains(stylesheet)) {
+                        list.set(i, sourceStylesheet);
+                    }
+                }
+            });
+        });
+
+        LOGGER.info("Stylesheet " + file + " reloaded");
+    }
+
+    private void reloadViews(Path file, URL viewURL) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "FXML file " + file + " could not be read", e);
+            return;
+        }
+
+        FxmlTemplateCache.put(viewURL, content);
+
+        OpenViews.views().forEach((stage, controller) -> {
+            if (!FxmlViewHelper.viewUrlOf(controller.getClass()).toExternalForm().equals(viewURL.toExternalForm())) {
+                return;
+            }
+
+            if (!(controller instanceof Reloadable)) {
+                LOGGER.info("The view of " + controller.getClass().getName() + " will be updated the next time it "
+                        + "is shown since its controller does not implement " + Reloadable.class.getName());
+                return;
+            }
+
+            try {
+                ((Reloadable) controller).reloadUI();
+                watch(stage, controller);
+                LOGGER.info("View " + file + " reloaded");
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "View " + file + " could not be reloaded", e);
+            }
+        });
+    }
+
+    /**
+     * Passes to {@code action} the stylesheets lists of {@code scene} and of all its parents.
+     */
+    private static void forEachStylesheetList(Scene scene, Consumer<ObservableList<String>> action) {
+        action.accept(scene.getStylesheets());
+        if (scene.getRoot() != null) {
+            forEachStylesheetList(scene.getRoot(), action);
+        }
+    }
+
+    private static void forEachStylesheetList(Parent parent, Consumer<ObservableList<String>> action) {
+        action.accept(parent.getStylesheets());
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            if (child instanceof Parent) {
+                forEachStylesheetList((Parent) child, action);
+            }
+        }
+    }
+
+    /**
+     * Finds the source file of the resource {@code url}: the file in {@code sourceRoots} with the longest path
+     * matching the end of the resource path. Binary stylesheets ({@code .bss}) are matched with their source
+     * ({@code .css}).
+     *
+     * @param sourceRoots Source directories
+     * @param url         Resource URL
+     *
+     * @return Source file or an empty {@link Optional} if it was not found
+     */
+    static Optional<Path> toSourceFile(List<Path> sourceRoots, String url) {
+        String path;
+        try {
+            URI uri = URI.create(url);
+            if ("file".equals(uri.getScheme())) {
+                Path file = Paths.get(uri).normalize();
+                for (Path root : sourceRoots) {
+                    if (file.startsWith(root)) {
+                        return Optional.of(file);
+                    }
+                }
+            }
+
+            path = "jar".equals(uri.getScheme())
+                    ? uri.getSchemeSpecificPart().substring(uri.getSchemeSpecificPart().indexOf("!/") + 1)
+                    : uri.getPath();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (path == null) {
+            return Optional.empty();
+        }
+
+        if (path.endsWith(".bss")) {
+            path = path.substring(0, path.length() - 4) + ".css";
+        }
+
+        String[] segments = path.replaceFirst("^/+", "").split("/");
+        for (int first = 0; first < segments.length; first++) {
+            String relativePath = String.join("/", List.of(segments).subList(first, segments.length));
+            for (Path root : sourceRoots) {
+                Path candidate = root.resolve(relativePath).normalize();
+                if (candidate.startsWith(root) && Files.isRegularFile(candidate)) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.LatencyHistogram;
+import javafx.application.Platform;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.TouchEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the input-to-render latency of the controls: the time elapsed from the delivery of an input event (key,
+ * mouse or touch press/release) to a control until the next pulse of its scene, after which the response to the event
+ * is rendered. Latencies are aggregated per control id.<br>
+ * <br>
+ * Controls are measured individually ({@link #track(Node, String)}, for the fields annotated with
+ * {@code @}{@link com.ainoha.core.annotation.MeasureInputLatency}), or all the controls of a scene
+ * ({@link #trackScene(Scene, Class)}, for all the views if the system property
+ * {@link com.ainoha.internal.utils.SystemProperties#INPUT_LATENCY} is {@code true}).<br>
+ * <br>
+ * The tracking methods must be called on the JavaFX Application Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class InputLatencyMonitor {
+
+    /**
+     * Measured input events. Only press and release events are measured, since they are the ones whose response is
+     * expected by the user
+     */
+    static final List<EventType<? extends InputEvent>> MEASURED_EVENTS = List.of(
+            KeyEvent.KEY_PRESSED, KeyEvent.KEY_RELEASED,
+            MouseEvent.MOUSE_PRESSED, MouseEvent.MOUSE_RELEASED,
+            TouchEvent.TOUCH_PRESSED, TouchEvent.TOUCH_RELEASED
+    );
+
+    private static final String PENDING_INPUTS_KEY = InputLatencyMonitor.class.getName() + ".pendingInputs";
+    private static final String SCENE_TRACKED_KEY = InputLatencyMonitor.class.getName() + ".sceneTracked";
+    private static final String VIEW_CONTROLLER_KEY = InputLatencyMonitor.class.getName() + ".viewController";
+
+    private static final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    private InputLatencyMonitor() {}
+
+    /**
+     * Measures the input events delivered to {@code node}.
+     *
+     * @param node      Control to measure
+     * @param controlId Id under which the latencies are aggregated
+     */
+    public static void track(Node node, String controlId) {
+        EventHandler<InputEvent> filter = event -> inputReceived(node.getScene(), controlId, System.nanoTime());
+        MEASURED_EVENTS.forEach(eventType -> node.addEventFilter(eventType, filter));
+    }
+
+    /**
+     * Measures the input events delivered to all the controls of {@code scene}. The latencies of each control are
+     * aggregated under the id of the control or of its nearest ancestor having an id (see
+     * {@link #controlId(Class, Node)}). Events delivered to nodes without id are not measured.<br>
+     * <br>
+     * The controller class is attributed to the current scene root, so when the scene shows another view this method
+     * must be called again with the new controller class. A root replaced without calling it (i.e. the view reloaded)
+     * keeps the controller class of the previous root.
+     *
+     * @param scene           Scene to measure
+     * @param controllerClass Controller class of the view shown in the scene
+     */
+    public static void trackScene(Scene scene, Class<?> controllerClass) {
+        scene.getRoot().getProperties().put(VIEW_CONTROLLER_KEY, controllerClass);
+
+        if (scene.getProperties().putIfAbsent(SCENE_TRACKED_KEY, Boolean.TRUE) != null) {
+            return;
+        }
+
+        EventHandler<InputEvent> filter = event -> {
+            if (event.getTarget() instanceof Node) {
+                String controlId = controlId((Node) event.getTarget());
+                if (controlId != null) {
+                    inputReceived(scene, controlId, System.nanoTime());
+                }
+            }
+        };
+        MEASURED_EVENTS.forEach(eventType -> scene.addEventFilter(eventType, filter));
+
+        // A root replaced without calling this method is the same view reloaded (see Reloadable)
+        scene.rootProperty().addListener((observable, oldRoot, newRoot) -> {
+            Object previousClass = oldRoot != null ? oldRoot.getProperties().get(VIEW_CONTROLLER_KEY) : null;
+            if (previousClass != null && newRoot != null) {
+                newRoot.getProperties().putIfAbsent(VIEW_CONTROLLER_KEY, previousClass);
+            }
+        });
+    }
+
+    /**
+     * @return Input-to-render latencies per control id
+     */
+    public static Map<String, LatencyHistogram> latencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Builds the id under which the latencies of {@code node} are aggregated, taking the controller class from the
+     * view root containing it (see {@link #trackScene(Scene, Class)}).
+     *
+     * @param node Node which received an input event
+     *
+     * @return {@code ControllerSimpleName#id} (see {@link #controlId(Class, Node)}), or {@code null} if {@code node}
+     *         is not in a tracked view or neither {@code node} nor its ancestors have an id
+     */
+    static String controlId(Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            Object controllerClass = current.getProperties().get(VIEW_CONTROLLER_KEY);
+            if (controllerClass != null) {
+                return controlId((Class<?>) controllerClass, node);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Builds the id under which the latencies of {@code node} are aggregated.
+     *
+     * @param controllerClass Controller class of the view containing {@code node}
+     * @param node            Node which received an input event
+     *
+     * @return {@code ControllerSimpleName#id}, where {@code id} is the id of {@code node} or of its nearest ancestor
+     *         having an id, or {@code null} if neither {@code node} nor its ancestors have an id
+     */
+    static String controlId(Class<?> controllerClass, Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current.getId() != null && !current.getId().isBlank()) {
+                return controlId(controllerClass, current.getId());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param controllerClass Controller class of the view containing the control
+     * @param id              Control id
+     *
+     * @return Id under which the latencies of the control are aggregated: {@code ControllerSimpleName#id}
+     */
+    public static String controlId(Class<?> controllerClass, String id) {
+        return controllerClass.getSimpleName() + "#" + id;
+    }
+
+    private static void inputReceived(Scene scene, String controlId, long nanos) {
+        if (scene == null) {
+            return;
+        }
+
+        PendingInputs pendingInputs = (PendingInputs) scene.getProperties().get(PENDING_INPUTS_KEY);
+        if (pendingInputs == null) {
+            pendingInputs = new PendingInputs();
+            scene.getProperties().put(PENDING_INPUTS_KEY, pendingInputs);
+            scene.addPostLayoutPulseListener(pendingInputs);
+        }
+
+        pendingInputs.add(controlId, nanos);
+
+        // The event could not change the scene, in which case there would be no pulse to measure
+        Platform.requestNextPulse();
+    }
+
+    /**
+     * Input events of a scene waiting for the next pulse. Only the first event received by each control between two
+     * pulses is measured.
+     */
+    static final class PendingInputs implements Runnable {
+        private final Map<String, Long> inputNanos = new HashMap<>();
+
+        void add(String controlId, long nanos) {
+            inputNanos.putIfAbsent(controlId, nanos);
+        }
+
+        @Override
+        public void run() {
+            if (inputNanos.isEmpty()) {
+                return;
+            }
+
+            long nowNanos = System.nanoTime();
+            inputNanos.forEach((controlId, nanos) ->
+                    latencies.computeIfAbsent(controlId, id -> new LatencyHistogram()).record(nowNanos - nanos));
+            inputNanos.clear();
+        }
+    }
+}
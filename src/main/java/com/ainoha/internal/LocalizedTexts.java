@@ -0,0 +1,417 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.beans.property.StringProperty;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.control.Accordion;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ComboBoxBase;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.Control;
+import javafx.scene.control.Labeled;
+import javafx.scene.control.Menu;
+import javafx.scene.control.MenuBar;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.TableColumnBase;
+import javafx.scene.control.TableView;
+import javafx.scene.control.TextInputControl;
+import javafx.scene.control.TitledPane;
+import javafx.scene.control.ToolBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.control.TreeTableView;
+import javafx.scene.text.Text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Localized texts of a view: the text properties of its nodes (label texts, prompt texts, tab and column texts,
+ * menu items, tooltips, etc.) whose value was taken from the language resources when the view was loaded, and the
+ * resource keys ({@code %key} references in the FXML file) used to get them.<br>
+ * <br>
+ * This allows to update the texts of a showing view after a language change without loading it again, so the node
+ * tree and its state (scroll positions, selections, text input, etc.) are preserved and no new CSS and layout pass
+ * of the whole view is needed.<br>
+ * <br>
+ * Loading a view only keeps the language resources and the FXML file used (see
+ * {@link #remember(Parent, ResourceBundle, URL)}), so applications which never change the language do not pay for
+ * this. The texts are found the first time they are needed (see {@link #of(Parent)}), matching the node text
+ * properties with the values of the keys referenced by the FXML documents of the view (including the
+ * {@code fx:include} ones). If more properties have a value than references to keys with that value, some of them
+ * were set by the controller and can not be told apart, so the texts are not updated (see
+ * {@link #apply(ResourceBundle)}). If two referenced keys have the same value, the key of a property with that
+ * value can not be known either, in which case it is only updated if both keys have the same value in the new
+ * language resources too.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class LocalizedTexts {
+
+    private static final Logger LOGGER = Logger.getLogger(LocalizedTexts.class.getName());
+
+    private static final String PROPERTY_KEY = LocalizedTexts.class.getName();
+    private static final String SOURCE_KEY = LocalizedTexts.class.getName() + ".source";
+
+    /**
+     * {@code %key} references of an FXML document (attribute values and element texts)
+     */
+    private static final Pattern KEY_REFERENCE = Pattern.compile("[\"'>]%([^\"'<%\\s][^\"'<]*?)\\s*[\"'<]");
+
+    /**
+     * {@code fx:include} elements of an FXML document
+     */
+    private static final Pattern INCLUDE = Pattern.compile("<fx:include\\s[^>]*?source\\s*=\\s*[\"']([^\"']+)[\"']");
+
+    private final List<TextBinding> bindings;
+    private final boolean ambiguous;
+
+    private LocalizedTexts(List<TextBinding> bindings, boolean ambiguous) {
+        this.bindings = bindings;
+        this.ambiguous = ambiguous;
+    }
+
+    /**
+     * Keeps within {@code root} properties the language resources and the FXML document used to load the view, so
+     * its localized texts can be found later.
+     *
+     * @param root      View root
+     * @param resources Language resources used to load the view
+     * @param viewURL   FXML view file URL
+     */
+    static void remember(Parent root, ResourceBundle resources, URL viewURL) {
+        root.getProperties().remove(PROPERTY_KEY);
+        root.getProperties().put(SOURCE_KEY, new Source(resources, viewURL));
+    }
+
+    /**
+     * Allows to get the localized texts of a view, finding them the first time.
+     *
+     * @param root View root
+     *
+     * @return Localized texts of the view or an empty {@link Optional} if the view was not loaded by the framework
+     *         with language resources (see {@link #remember(Parent, ResourceBundle, URL)})
+     */
+    static Optional<LocalizedTexts> of(Parent root) {
+        var texts = (LocalizedTexts) root.getProperties().get(PROPERTY_KEY);
+        if (texts != null) {
+            return Optional.of(texts);
+        }
+
+        var source = (Source) root.getProperties().remove(SOURCE_KEY);
+        if (source == null) {
+            return Optional.empty();
+        }
+
+        texts = collect(root, source.resources, keyReferences(source.viewURL));
+        root.getProperties().put(PROPERTY_KEY, texts);
+        return Optional.of(texts);
+    }
+
+    /**
+     * Finds the localized texts of the view {@code root}.
+     *
+     * @param root          View root
+     * @param resources     Language resources used to load the view
+     * @param keyReferences Number of references to each key in the FXML documents of the view
+     *
+     * @return Localized texts of the view
+     */
+    static LocalizedTexts collect(Parent root, ResourceBundle resources, Map<String, Integer> keyReferences) {
+        Map<String, Set<String>> keysByValue = new HashMap<>();
+        Map<String, Integer> referencesByValue = new HashMap<>();
+        keyReferences.forEach((key, count) -> {
+            if (resources.containsKey(key) && resources.getObject(key) instanceof String) {
+                String value = resources.getString(key);
+                keysByValue.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(key);
+                referencesByValue.merge(value, count, Integer::sum);
+            }
+        });
+
+        List<TextBinding> bindings = new ArrayList<>();
+        Map<String, Integer> propertiesByValue = new HashMap<>();
+        new TextPropertyCollector(property -> {
+            Set<String> keys = keysByValue.get(property.get());
+            if (keys != null) {
+                bindings.add(new TextBinding(property, keys, property.get()));
+                propertiesByValue.merge(property.get(), 1, Integer::sum);
+            }
+        }).collect(root);
+
+        boolean ambiguous = propertiesByValue.entrySet()
+                .stream()
+                .anyMatch(entry -> entry.getValue() > referencesByValue.get(entry.getKey()));
+
+        return new LocalizedTexts(bindings, ambiguous);
+    }
+
+    /**
+     * Counts the {@code %key} references of the FXML document {@code viewURL} and of the documents it includes.
+     *
+     * @param viewURL FXML view file URL
+     *
+     * @return Number of references to each key
+     */
+    static Map<String, Integer> keyReferences(URL viewURL) {
+        Map<String, Integer> references = new HashMap<>();
+        addKeyReferences(viewURL, references, new HashSet<>());
+        return references;
+    }
+
+    private static void addKeyReferences(URL documentURL, Map<String, Integer> references, Set<String> visited) {
+        if (!visited.add(documentURL.toExternalForm())) {
+            return;
+        }
+
+        String document;
+        try (InputStream template = FxmlTemplateCache.open(documentURL)) {
+            document = new String(template.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "FXML document " + documentURL + " could not be read", e);
+            return;
+        }
+
+        Matcher keyMatcher = KEY_REFERENCE.matcher(document);
+        while (keyMatcher.find()) {
+            references.merge(keyMatcher.group(1), 1, Integer::sum);
+        }
+
+        Matcher includeMatcher = INCLUDE.matcher(document);
+        while (includeMatcher.find()) {
+            String source = includeMatcher.group(1);
+            try {
+                // As FXMLLoader does, absolute sources are resolved in the class path
+                URL includeURL = source.startsWith("/")
+                        ? FXMLLoader.getDefaultClassLoader().getResource(source.substring(1))
+                        : new URL(documentURL, source);
+                if (includeURL != null) {
+                    addKeyReferences(includeURL, references, visited);
+                }
+            } catch (MalformedURLException e) {
+                LOGGER.log(Level.FINE, "Included FXML document " + source + " could not be resolved", e);
+            }
+        }
+    }
+
+    /**
+     * Updates the localized texts with the values of {@code resources}. Texts whose keys do not exist in
+     * {@code resources}, and texts changed since they were localized (i.e. by the view controller), are not changed.
+     *
+     * @param resources New language resources
+     *
+     * @return {@code false} if the texts could not be updated (nothing is changed in such case) because the key of
+     *         any text is ambiguous
+     */
+    boolean apply(ResourceBundle resources) {
+        if (ambiguous) {
+            return false;
+        }
+
+        Map<TextBinding, String> newValues = new HashMap<>();
+
+        for (TextBinding binding : bindings) {
+            if (binding.property.isBound() || !binding.value.equals(binding.property.get())) {
+                continue;
+            }
+
+            Set<String> values = new HashSet<>();
+            for (String key : binding.keys) {
+                if (resources.containsKey(key)) {
+                    values.add(resources.getString(key));
+                }
+            }
+
+            if (values.size() > 1) {
+                return false;
+            }
+
+            if (!values.isEmpty()) {
+                newValues.put(binding, values.iterator().next());
+            }
+        }
+
+        newValues.forEach((binding, value) -> {
+            binding.property.set(value);
+            binding.value = value;
+        });
+        return true;
+    }
+
+    /**
+     * @return Number of localized texts
+     */
+    int size() {
+        return bindings.size();
+    }
+
+    private static final class Source {
+        private final ResourceBundle resources;
+        private final URL viewURL;
+
+        private Source(ResourceBundle resources, URL viewURL) {
+            this.resources = resources;
+            this.viewURL = viewURL;
+        }
+    }
+
+    private static final class TextBinding {
+        private final StringProperty property;
+        private final Set<String> keys;
+        private String value;
+
+        private TextBinding(StringProperty property, Set<String> keys, String value) {
+            this.property = property;
+            this.keys = keys;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Walks a view node tree, including the nodes and items not yet added to the scene graph by the control skins
+     * (i.e. the content of unselected tabs), passing the text properties found to a consumer.
+     */
+    private static final class TextPropertyCollector {
+        private final Consumer<StringProperty> consumer;
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private TextPropertyCollector(Consumer<StringProperty> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void collectAll(List<?> items) {
+            items.forEach(this::collect);
+        }
+
+        private void collect(Object item) {
+            if (item == null || !visited.add(item)) {
+                return;
+            }
+
+            if (item instanceof Labeled) {
+                consumer.accept(((Labeled) item).textProperty());
+                collect(((Labeled) item).getGraphic());
+            }
+            if (item instanceof TextInputControl) {
+                // The text is not updated since it could have been entered by the user
+                consumer.accept(((TextInputControl) item).promptTextProperty());
+            }
+            if (item instanceof ComboBoxBase) {
+                consumer.accept(((ComboBoxBase<?>) item).promptTextProperty());
+            }
+            if (item instanceof Text) {
+                consumer.accept(((Text) item).textProperty());
+            }
+            if (item instanceof Control) {
+                collect(((Control) item).getTooltip());
+                collect(((Control) item).getContextMenu());
+            }
+            if (item instanceof Tooltip) {
+                consumer.accept(((Tooltip) item).textProperty());
+            }
+            if (item instanceof ContextMenu) {
+                collectAll(((ContextMenu) item).getItems());
+            }
+            if (item instanceof MenuItem) {
+                consumer.accept(((MenuItem) item).textProperty());
+                collect(((MenuItem) item).getGraphic());
+                if (item instanceof Menu) {
+                    collectAll(((Menu) item).getItems());
+                }
+            }
+            if (item instanceof MenuBar) {
+                collectAll(((MenuBar) item).getMenus());
+            }
+            if (item instanceof MenuButton) {
+                collectAll(((MenuButton) item).getItems());
+            }
+            if (item instanceof TabPane) {
+                collectAll(((TabPane) item).getTabs());
+            }
+            if (item instanceof Tab) {
+                Tab tab = (Tab) item;
+                consumer.accept(tab.textProperty());
+                collect(tab.getGraphic());
+                collect(tab.getTooltip());
+                collect(tab.getContextMenu());
+                collect(tab.getContent());
+            }
+            if (item instanceof TableView) {
+                collectAll(((TableView<?>) item).getColumns());
+                collect(((TableView<?>) item).getPlaceholder());
+            }
+            if (item instanceof TreeTableView) {
+                collectAll(((TreeTableView<?>) item).getColumns());
+                collect(((TreeTableView<?>) item).getPlaceholder());
+            }
+            if (item instanceof TableColumnBase) {
+                TableColumnBase<?, ?> column = (TableColumnBase<?, ?>) item;
+                consumer.accept(column.textProperty());
+                collect(column.getGraphic());
+                collect(column.getContextMenu());
+                collectAll(column.getColumns());
+            }
+            if (item instanceof ScrollPane) {
+                collect(((ScrollPane) item).getContent());
+            }
+            if (item instanceof TitledPane) {
+                collect(((TitledPane) item).getContent());
+            }
+            if (item instanceof SplitPane) {
+                collectAll(((SplitPane) item).getItems());
+            }
+            if (item instanceof ToolBar) {
+                collectAll(((ToolBar) item).getItems());
+            }
+            if (item instanceof Accordion) {
+                collectAll(((Accordion) item).getPanes());
+            }
+            if (item instanceof ButtonBar) {
+                collectAll(((ButtonBar) item).getButtons());
+            }
+            // The children of the controls are created by their skins (i.e. the text node of a label), the content
+            // defined in the FXML file is visited above
+            if (item instanceof Parent && !(item instanceof Control)) {
+                collectAll(((Parent) item).getChildrenUnmodifiable());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Views currently showing, with their controllers.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class OpenViews {
+
+    private static final String CONTROLLER_KEY = OpenViews.class.getName() + ".controller";
+
+    private static final Map<Stage, Object> openViews = new ConcurrentHashMap<>();
+
+    private OpenViews() {}
+
+    /**
+     * Tracks {@code stage} as a view of {@code controller} while it is showing. A previously tracked stage is
+     * attributed to the new controller. Must be called on the JavaFX Application Thread.
+     *
+     * @param stage      View Stage
+     * @param controller View controller
+     */
+    static void track(Stage stage, Object controller) {
+        if (!stage.getProperties().containsKey(CONTROLLER_KEY)) {
+            stage.addEventHandler(WindowEvent.WINDOW_SHOWN,
+                                  event -> openViews.put(stage, stage.getProperties().get(CONTROLLER_KEY)));
+            stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> openViews.remove(stage));
+        }
+
+        stage.getProperties().put(CONTROLLER_KEY, controller);
+        if (stage.isShowing()) {
+            openViews.put(stage, controller);
+        }
+    }
+
+    /**
+     * @return Views currently showing, with their controllers
+     */
+    public static Map<Stage, Object> views() {
+        return Map.copyOf(openViews);
+    }
+
+    /**
+     * @return Controllers of the views currently showing
+     */
+    public static List<Object> controllers() {
+        return List.copyOf(openViews.values());
+    }
+
+    /**
+     * @return Number of views currently showing per controller class name
+     */
+    public static Map<String, Integer> countByControllerClass() {
+        Map<String, Integer> counts = new TreeMap<>();
+        openViews.values().forEach(controller -> counts.merge(controller.getClass().getName(), 1, Integer::sum));
+        return counts;
+    }
+}
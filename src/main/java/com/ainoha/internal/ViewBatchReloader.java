@@ -0,0 +1,186 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.ApplicationContext;
+import com.ainoha.core.Reloadable;
+import com.ainoha.core.metrics.ViewReloadResult;
+import com.ainoha.internal.utils.StageUtil;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.stage.Stage;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reloads all the showing views whose controllers implement {@link Reloadable}. The FXML files of the views are read,
+ * and the classes they use resolved, concurrently out of the JavaFX Application Thread (see
+ * {@link FxmlViewHelper#preloadView(Class)}). Then, in a single pass on the JavaFX Application Thread, the new node
+ * trees are built, the controllers are wired to them and the view roots are replaced, so the views are updated in the
+ * same pulse.<br>
+ * <br>
+ * A view which fails to reload keeps its current root and its controller fields are restored, so the controller keeps
+ * wired to the showing nodes. The side effects of the controller {@code initialize()} method are not reverted. A
+ * failing view does not prevent the other views from being reloaded.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ViewBatchReloader {
+
+    private static final Logger LOGGER = Logger.getLogger(ViewBatchReloader.class.getName());
+
+    private ViewBatchReloader() {}
+
+    /**
+     * Reloads all the showing {@link Reloadable} views (see {@link ApplicationContext#reloadAll()}).
+     *
+     * @return Future completed, on the JavaFX Application Thread, with the result of each view once all of them were
+     *         reloaded
+     */
+    public static CompletableFuture<List<ViewReloadResult>> reloadAll() {
+        List<CompletableFuture<PreparedView>> preparations = new ArrayList<>();
+
+        OpenViews.views().forEach((stage, controller) -> {
+            if (controller instanceof Reloadable && stage.getScene() != null) {
+                preparations.add(BackgroundTasks.supply(() -> prepare(stage, controller)));
+            }
+        });
+
+        return CompletableFuture.allOf(preparations.toArray(new CompletableFuture[0]))
+                .thenApplyAsync(ignored -> {
+                    List<ViewReloadResult> results = new ArrayList<>(preparations.size());
+                    preparations.forEach(preparation -> results.add(reload(preparation.join())));
+                    return results;
+                }, Platform::runLater);
+    }
+
+    /**
+     * Reads the FXML file of the view and resolves the classes it uses. No node is created and the controller is not
+     * touched, so it is safe out of the JavaFX Application Thread.
+     */
+    private static PreparedView prepare(Stage stage, Object controller) {
+        long startNanos = System.nanoTime();
+        try {
+            FxmlViewHelper.preloadView(controller.getClass());
+            return new PreparedView(stage, controller, System.nanoTime() - startNanos, null);
+        } catch (Exception e) {
+            return new PreparedView(stage, controller, System.nanoTime() - startNanos, e);
+        }
+    }
+
+    /**
+     * Builds the new node tree of the view, wires the controller to it and replaces the view root. Must be called on
+     * the JavaFX Application Thread.
+     */
+    static ViewReloadResult reload(PreparedView view) {
+        Class<?> controllerClass = view.controller.getClass();
+        Duration loadTime = Duration.ofNanos(view.loadNanos);
+
+        if (view.error != null) {
+            LOGGER.log(Level.WARNING, "The view of " + controllerClass.getName() + " could not be reloaded", view.error);
+            return new ViewReloadResult(controllerClass, loadTime, Duration.ZERO, view.error);
+        }
+
+        long startNanos = System.nanoTime();
+        var controllerState = new ControllerState(view.controller);
+        Exception error = null;
+        try {
+            Parent root = FxmlViewHelper.loadFxmlViewAsParent(view.controller, false);
+
+            // If current title was obtained from @FxmlController.title param, is not necessary change it
+            StageUtil.setStageTitle(ApplicationContext.instance(), view.stage,
+                                    FxmlViewHelper.titleKeyOf(controllerClass), null);
+
+            view.stage.getScene().setRoot(root);
+        } catch (Exception e) {
+            // The controller must keep wired to the showing nodes
+            controllerState.restore();
+
+            LOGGER.log(Level.WARNING, "The view of " + controllerClass.getName() + " could not be reloaded", e);
+            error = e;
+        }
+
+        long swapNanos = System.nanoTime() - startNanos;
+        if (error == null) {
+            ViewLatencies.recordReload(controllerClass, view.loadNanos + swapNanos);
+        }
+
+        return new ViewReloadResult(controllerClass, loadTime, Duration.ofNanos(swapNanos), error);
+    }
+
+    static final class PreparedView {
+        private final Stage stage;
+        private final Object controller;
+        private final long loadNanos;
+        private final Exception error;
+
+        PreparedView(Stage stage, Object controller, long loadNanos, Exception error) {
+            this.stage = stage;
+            this.controller = controller;
+            this.loadNanos = loadNanos;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Values of the instance fields of a controller (including the inherited ones), which are rewritten by the
+     * {@link javafx.fxml.FXMLLoader} and the controller {@code initialize()} method while its view is loaded. The
+     * fields not accessible by the framework are ignored.
+     */
+    private static final class ControllerState {
+        private final Object controller;
+        private final Map<Field, Object> values = new HashMap<>();
+
+        private ControllerState(Object controller) {
+            this.controller = controller;
+
+            for (Class<?> type = controller.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || !field.trySetAccessible()) {
+                        continue;
+                    }
+
+                    try {
+                        values.put(field, field.get(controller));
+                    } catch (IllegalAccessException e) {
+                        // Not accessible, so it was not rewritten by the framework either
+                    }
+                }
+            }
+        }
+
+        private void restore() {
+            values.forEach((field, value) -> {
+                try {
+                    field.set(controller, value);
+                } catch (IllegalAccessException e) {
+                    LOGGER.log(Level.FINE, "Field " + field + " could not be restored", e);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.LatencyHistogram;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latencies of the view operations, per view controller class:<br>
+ * - show: from the moment in which the view is requested until its window is shown, and<br>
+ * - reload: the time taken by {@link com.ainoha.core.Reloadable#reloadUI()} and
+ * {@link com.ainoha.core.Reloadable#reloadFullyUI()}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ViewLatencies {
+
+    private static final Map<Class<?>, LatencyHistogram> showLatencies = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LatencyHistogram> reloadLatencies = new ConcurrentHashMap<>();
+
+    private ViewLatencies() {}
+
+    /**
+     * Records the time taken to show a view of {@code controllerClass}.
+     *
+     * @param controllerClass View controller class
+     * @param nanos           Latency in nanoseconds
+     */
+    public static void recordShow(Class<?> controllerClass, long nanos) {
+        showLatencies.computeIfAbsent(controllerClass, c -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Records the time taken to reload a view of {@code controllerClass}.
+     *
+     * @param controllerClass View controller class
+     * @param nanos           Latency in nanoseconds
+     */
+    public static void recordReload(Class<?> controllerClass, long nanos) {
+        reloadLatencies.computeIfAbsent(controllerClass, c -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * @return Show latencies per controller class
+     */
+    public static Map<Class<?>, LatencyHistogram> showLatencies() {
+        return Collections.unmodifiableMap(showLatencies);
+    }
+
+    /**
+     * @return Reload latencies per controller class
+     */
+    public static Map<Class<?>, LatencyHistogram> reloadLatencies() {
+        return Collections.unmodifiableMap(reloadLatencies);
+    }
+}
@@ -0,0 +1,286 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.Overlay;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Shows views as modal layers over the content of a scene, instead of in new windows. Each overlay is a
+ * {@link StackPane} (style class {@value ViewOverlays#STYLE_CLASS}) added to the scene root, covering it, with the
+ * view centered in it. While an overlay is showing, the mouse events are blocked by its layer and the key events
+ * and the focus are kept within it. Overlays can be stacked: only the last one shown is interactive.<br>
+ * <br>
+ * The scene root must be a {@link Pane}. All the methods must be called on the JavaFX Application Thread.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ViewOverlays {
+
+    /**
+     * Style class of the overlay layers. Their default background dims the scene content
+     */
+    public static final String STYLE_CLASS = "ainoha-overlay";
+
+    private static final String OVERLAYS_KEY = ViewOverlays.class.getName() + ".overlays";
+
+    /**
+     * Overlays showing in all the scenes, in the order in which they were shown
+     */
+    private static final Set<OverlayLayer> showingOverlays = new LinkedHashSet<>();
+
+    private static final Background DEFAULT_BACKGROUND =
+            new Background(new BackgroundFill(Color.rgb(0, 0, 0, 0.4), null, null));
+
+    private ViewOverlays() {}
+
+    /**
+     * Shows {@code view} as an overlay over the content of {@code scene}.
+     *
+     * @param scene Scene where the overlay is shown. Its root must be a {@link Pane}
+     * @param view  View to show
+     *
+     * @return The overlay
+     *
+     * @throws IllegalArgumentException If the scene root is not a {@link Pane}
+     */
+    public static Overlay show(Scene scene, Parent view) {
+        if (!(scene.getRoot() instanceof Pane)) {
+            throw new IllegalArgumentException("The scene root must be a " + Pane.class.getName() + " to show "
+                    + "overlays. Found: " + scene.getRoot().getClass().getName());
+        }
+
+        SceneOverlays overlays = (SceneOverlays) scene.getProperties().get(OVERLAYS_KEY);
+        if (overlays == null) {
+            overlays = new SceneOverlays(scene);
+            scene.getProperties().put(OVERLAYS_KEY, overlays);
+        }
+
+        var overlay = new OverlayLayer(overlays, (Pane) scene.getRoot(), view);
+        overlays.push(overlay);
+        showingOverlays.add(overlay);
+        return overlay;
+    }
+
+    /**
+     * @return Overlays showing in all the scenes
+     */
+    public static List<Overlay> showing() {
+        return List.copyOf(showingOverlays);
+    }
+
+    /**
+     * @param scene Scene
+     *
+     * @return Number of overlays showing in {@code scene}
+     */
+    public static int count(Scene scene) {
+        SceneOverlays overlays = (SceneOverlays) scene.getProperties().get(OVERLAYS_KEY);
+        return overlays == null ? 0 : overlays.stack.size();
+    }
+
+    private static boolean isDescendant(Node node, Node ancestor) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current == ancestor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Overlays of a scene. Key events and focus changes are filtered only while there are overlays showing.
+     */
+    private static final class SceneOverlays {
+        private final Scene scene;
+        private final List<OverlayLayer> stack = new ArrayList<>();
+
+        private final EventHandler<KeyEvent> keyFilter = this::filterKeyEvent;
+        private final ChangeListener<Node> focusListener = (observable, oldOwner, newOwner) -> keepFocus(oldOwner, newOwner);
+
+        private SceneOverlays(Scene scene) {
+            this.scene = scene;
+        }
+
+        private OverlayLayer top() {
+            return stack.get(stack.size() - 1);
+        }
+
+        private void push(OverlayLayer overlay) {
+            if (stack.isEmpty()) {
+                scene.addEventFilter(KeyEvent.ANY, keyFilter);
+                scene.focusOwnerProperty().addListener(focusListener);
+            }
+            stack.add(overlay);
+            overlay.focus();
+        }
+
+        private void remove(OverlayLayer overlay) {
+            boolean wasTop = top() == overlay;
+            stack.remove(overlay);
+
+            if (stack.isEmpty()) {
+                scene.removeEventFilter(KeyEvent.ANY, keyFilter);
+                scene.focusOwnerProperty().removeListener(focusListener);
+            }
+
+            if (wasTop) {
+                if (overlay.previousFocusOwner != null && overlay.previousFocusOwner.getScene() == scene) {
+                    overlay.previousFocusOwner.requestFocus();
+                } else if (!stack.isEmpty()) {
+                    top().focus();
+                }
+            }
+        }
+
+        private void filterKeyEvent(KeyEvent event) {
+            if (event.getTarget() instanceof Node && !isDescendant((Node) event.getTarget(), top().layer)) {
+                event.consume();
+            }
+        }
+
+        private void keepFocus(Node oldOwner, Node newOwner) {
+            Node layer = top().layer;
+            if (newOwner != null && !isDescendant(newOwner, layer)) {
+                if (oldOwner != null && isDescendant(oldOwner, layer)) {
+                    oldOwner.requestFocus();
+                } else {
+                    layer.requestFocus();
+                }
+            }
+        }
+    }
+
+    private static final class OverlayLayer implements Overlay {
+        private final SceneOverlays overlays;
+        private final Pane root;
+        private final Parent view;
+        private final StackPane layer;
+        private final Node previousFocusOwner;
+        private final ChangeListener<Bounds> rootBoundsListener;
+        private Runnable onClosed;
+        private boolean showing = true;
+
+        private OverlayLayer(SceneOverlays overlays, Pane root, Parent view) {
+            this.overlays = overlays;
+            this.root = root;
+            this.view = view;
+            this.previousFocusOwner = overlays.scene.getFocusOwner();
+
+            layer = new StackPane(view);
+            layer.getStyleClass().add(STYLE_CLASS);
+            layer.setBackground(DEFAULT_BACKGROUND);
+            layer.setManaged(false);
+            // Blocks the mouse events for the scene content, even where the background is transparent
+            layer.setPickOnBounds(true);
+            layer.addEventHandler(InputEvent.ANY, event -> {
+                if (!(event instanceof KeyEvent)) {
+                    event.consume();
+                }
+            });
+
+            // The layer is not laid out by the root, so it must follow the root size
+            rootBoundsListener = (observable, oldBounds, newBounds) -> fitToRoot();
+            root.layoutBoundsProperty().addListener(rootBoundsListener);
+            root.getChildren().add(layer);
+            fitToRoot();
+        }
+
+        private void fitToRoot() {
+            Bounds bounds = root.getLayoutBounds();
+            layer.resizeRelocate(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        }
+
+        private void focus() {
+            Node firstFocusable = findFocusable(view);
+            (firstFocusable != null ? firstFocusable : layer).requestFocus();
+        }
+
+        private static Node findFocusable(Node node) {
+            if (!node.isVisible() || node.isDisabled()) {
+                return null;
+            }
+            if (node.isFocusTraversable()) {
+                return node;
+            }
+
+            if (node instanceof Parent) {
+                for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                    Node focusable = findFocusable(child);
+                    if (focusable != null) {
+                        return focusable;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            if (!showing) {
+                return;
+            }
+
+            showing = false;
+            root.layoutBoundsProperty().removeListener(rootBoundsListener);
+            root.getChildren().remove(layer);
+            overlays.remove(this);
+            showingOverlays.remove(this);
+
+            if (onClosed != null) {
+                onClosed.run();
+            }
+        }
+
+        @Override
+        public boolean isShowing() {
+            return showing;
+        }
+
+        @Override
+        public Scene getScene() {
+            return overlays.scene;
+        }
+
+        @Override
+        public Parent getView() {
+            return view;
+        }
+
+        @Override
+        public void setOnClosed(Runnable onClosed) {
+            this.onClosed = onClosed;
+        }
+    }
+}
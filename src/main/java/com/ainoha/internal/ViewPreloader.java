@@ -0,0 +1,224 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import com.ainoha.core.metrics.CacheStats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Preloads the views the user is most likely to open, according to the views opened in previous sessions (see
+ * {@link ViewProfile}). At startup the views most sessions started with are preloaded, and each time a view is shown
+ * the view most often opened after it is preloaded, if the background tasks are idle.<br>
+ * <br>
+ * Preloading a view reads its FXML document into memory, resolves its controller metadata, the classes imported by
+ * the document and its icon (see {@link FxmlViewHelper#preloadView(Class)}), so the view is shown faster when it is
+ * finally opened. The documents read by the preloading are bounded by a budget of bytes (views whose document size
+ * can not be known without reading it are not preloaded). The budget does not bound {@link FxmlTemplateCache}, which
+ * also keeps the documents of the views shown. The profile is written into its file when the application exits.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ViewPreloader {
+
+    private static final Logger LOGGER = Logger.getLogger(ViewPreloader.class.getName());
+
+    private static volatile ViewPreloader instance;
+
+    private final ClassLoader classLoader;
+    private final Path profileFile;
+    private final long budgetBytes;
+    private final ViewProfile profile = new ViewProfile();
+
+    /**
+     * Views preloaded (or being preloaded) in this session
+     */
+    private final Set<String> preloadedViews = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Views shown in this session
+     */
+    private final Set<String> shownViews = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong preloadedBytes = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The profile is not written until the previous sessions counts are loaded, otherwise they would be lost
+     */
+    private volatile boolean profileLoaded;
+
+    private ViewPreloader(ClassLoader classLoader, Path profileFile, long budgetBytes) {
+        this.classLoader = classLoader;
+        this.profileFile = profileFile;
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Loads the profile {@code profileFile} and preloads in background the {@code firstViews} views most likely to be
+     * shown first. Only the first call has effect.
+     *
+     * @param classLoader Class loader of the view controllers
+     * @param profileFile Profile file. It is created when the application exits if it does not exist
+     * @param firstViews  Number of views to preload at startup
+     * @param budgetBytes Maximum size of the preloaded FXML documents, in bytes
+     */
+    public static synchronized void start(ClassLoader classLoader, Path profileFile, int firstViews, long budgetBytes) {
+        if (instance != null) {
+            return;
+        }
+
+        ViewPreloader preloader = new ViewPreloader(classLoader, profileFile, budgetBytes);
+        instance = preloader;
+
+        Runtime.getRuntime().addShutdownHook(new Thread(preloader::saveProfile, "ainoha-view-profile-save"));
+
+        BackgroundTasks.run(() -> {
+            preloader.loadProfile();
+            preloader.profile.likelyFirstViews(firstViews).forEach(preloader::preload);
+        });
+    }
+
+    /**
+     * @return The preloader or an empty {@link Optional} if it was not started
+     */
+    public static Optional<ViewPreloader> get() {
+        return Optional.ofNullable(instance);
+    }
+
+    /**
+     * Records that the view of {@code controllerClass} was shown and preloads in background the view most likely to
+     * be opened next.
+     *
+     * @param controllerClass View controller class
+     */
+    public void viewShown(Class<?> controllerClass) {
+        String className = controllerClass.getName();
+        profile.recordShow(className);
+
+        // Only the first show of each view is counted, the following ones take the view from the caches anyway
+        if (shownViews.add(className)) {
+            if (preloadedViews.contains(className)) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+
+        profile.likelyNextView(className)
+                .filter(next -> !shownViews.contains(next) && !preloadedViews.contains(next))
+                .filter(next -> BackgroundTasks.queueSize() == 0)
+                .ifPresent(next -> BackgroundTasks.run(() -> preload(next)));
+    }
+
+    /**
+     * Allows to get the statistics of the views shown in this session: a hit is a view which was preloaded before it
+     * was shown for the first time, a miss a view which was not.
+     *
+     * @return Preloading statistics. The size is the number of preloaded views
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), preloadedViews.size());
+    }
+
+    private void preload(String className) {
+        if (shownViews.contains(className) || !preloadedViews.add(className)) {
+            return;
+        }
+
+        long reservedBytes = 0;
+        try {
+            Class<?> controllerClass = Class.forName(className, false, classLoader);
+
+            // The document size is reserved before reading it, so the budget is never exceeded
+            reservedBytes = FxmlTemplateCache.sizeOf(FxmlViewHelper.viewUrlOf(controllerClass));
+            if (reservedBytes < 0 || !reserve(reservedBytes)) {
+                reservedBytes = 0;
+                preloadedViews.remove(className);
+                LOGGER.fine(() -> "View " + className + " not preloaded, it does not fit in the preloading budget");
+                return;
+            }
+
+            FxmlViewHelper.preloadView(controllerClass);
+        } catch (ClassNotFoundException | IOException | RuntimeException e) {
+            // i.e. the controller was removed from the application after the profile was written
+            preloadedBytes.addAndGet(-reservedBytes);
+            preloadedViews.remove(className);
+            LOGGER.log(Level.FINE, "View " + className + " could not be preloaded", e);
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code bytes} were added to the preloaded bytes without exceeding the budget
+     */
+    private boolean reserve(long bytes) {
+        long current;
+        do {
+            current = preloadedBytes.get();
+            if (current + bytes > budgetBytes) {
+                return false;
+            }
+        } while (!preloadedBytes.compareAndSet(current, current + bytes));
+
+        return true;
+    }
+
+    private void loadProfile() {
+        try (Reader reader = Files.newBufferedReader(profileFile, StandardCharsets.UTF_8)) {
+            profile.addAll(ViewProfile.read(reader));
+        } catch (NoSuchFileException e) {
+            // First session
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "View profile '" + profileFile + "' could not be loaded", e);
+        }
+
+        profileLoaded = true;
+    }
+
+    private void saveProfile() {
+        if (!profileLoaded) {
+            return;
+        }
+
+        try {
+            Path parent = profileFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            try (Writer writer = Files.newBufferedWriter(profileFile, StandardCharsets.UTF_8)) {
+                profile.write(writer);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "View profile could not be written to '" + profileFile + "'", e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Profile of the views opened by the users: how many sessions started with each view and how many times each view
+ * was opened right after another one. It is used by {@link ViewPreloader} to predict the views most likely to be
+ * opened.<br>
+ * <br>
+ * Profile file format is one line per count with the following values, separated by tabs: {@code first}, controller
+ * class name and count, or {@code next}, previous controller class name, controller class name and count. Lines
+ * starting with {@code #} are comments. In order to keep the file small, at most {@link ViewProfile#MAX_ENTRIES}
+ * counts (the highest ones) are written.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+final class ViewProfile {
+
+    static final String HEADER = "# Ainoha Framework view profile v1";
+
+    /**
+     * Maximum number of counts written into the profile file
+     */
+    static final int MAX_ENTRIES = 500;
+
+    private static final String FIRST = "first";
+    private static final String NEXT = "next";
+
+    /**
+     * Sorts the counts by value, from highest to lowest, and then by view name
+     */
+    private static final Comparator<Map.Entry<String, Long>> HIGHEST_COUNT_FIRST =
+            Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final Map<String, Long> firstViews = new HashMap<>();
+    private final Map<String, Map<String, Long>> nextViews = new HashMap<>();
+
+    /**
+     * Last view shown in the current session
+     */
+    private String lastView;
+
+    /**
+     * Records that the view of the controller {@code className} was shown. The first view of the session is counted
+     * as a first view, the following ones as transitions from the previously shown view.
+     *
+     * @param className View controller class name
+     */
+    synchronized void recordShow(String className) {
+        if (lastView == null) {
+            firstViews.merge(className, 1L, Long::sum);
+        } else if (!lastView.equals(className)) {
+            nextViews.computeIfAbsent(lastView, key -> new HashMap<>()).merge(className, 1L, Long::sum);
+        }
+
+        lastView = className;
+    }
+
+    /**
+     * Adds the counts of {@code other} to this profile (i.e. the profile of the previous sessions).
+     *
+     * @param other Profile to add
+     */
+    synchronized void addAll(ViewProfile other) {
+        Map<String, Long> otherFirstViews;
+        Map<String, Map<String, Long>> otherNextViews = new HashMap<>();
+        synchronized (other) {
+            otherFirstViews = new HashMap<>(other.firstViews);
+            other.nextViews.forEach((from, counts) -> otherNextViews.put(from, new HashMap<>(counts)));
+        }
+
+        otherFirstViews.forEach((view, count) -> firstViews.merge(view, count, Long::sum));
+        otherNextViews.forEach((from, counts) -> {
+            Map<String, Long> fromCounts = nextViews.computeIfAbsent(from, key -> new HashMap<>());
+            counts.forEach((view, count) -> fromCounts.merge(view, count, Long::sum));
+        });
+    }
+
+    /**
+     * @param count Maximum number of views
+     *
+     * @return Controller class names of the views which most sessions started with, most likely first
+     */
+    synchronized List<String> likelyFirstViews(int count) {
+        return firstViews.entrySet()
+                .stream()
+                .sorted(HIGHEST_COUNT_FIRST)
+                .limit(Math.max(0, count))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param className View controller class name
+     *
+     * @return Controller class name of the view most often opened after the view of {@code className}, or an empty
+     *         {@link Optional} if no view has ever been opened after it
+     */
+    synchronized Optional<String> likelyNextView(String className) {
+        Map<String, Long> counts = nextViews.get(className);
+        if (counts == null) {
+            return Optional.empty();
+        }
+
+        return counts.entrySet()
+                .stream()
+                .min(HIGHEST_COUNT_FIRST)
+                .map(Map.Entry::getKey);
+    }
+
+    static ViewProfile read(Reader reader) throws IOException {
+        ViewProfile profile = new ViewProfile();
+
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] values = line.split("\t", -1);
+            try {
+                if (values.length == 3 && FIRST.equals(values[0])) {
+                    profile.firstViews.merge(values[1], Long.parseLong(values[2]), Long::sum);
+                    continue;
+                }
+
+                if (values.length == 4 && NEXT.equals(values[0])) {
+                    profile.nextViews.computeIfAbsent(values[1], key -> new HashMap<>())
+                            .merge(values[2], Long.parseLong(values[3]), Long::sum);
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+
+            throw new IOException("Invalid view profile line: " + line);
+        }
+
+        return profile;
+    }
+
+    synchronized void write(Writer writer) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        firstViews.forEach((view, count) -> lines.add(new Line(FIRST + '\t' + view, count)));
+        nextViews.forEach((from, counts) -> counts.forEach(
+                (view, count) -> lines.add(new Line(NEXT + '\t' + from + '\t' + view, count))));
+
+        lines.sort(Comparator.comparingLong((Line line) -> line.count).reversed().thenComparing(line -> line.text));
+
+        writer.write(HEADER);
+        writer.write('\n');
+        for (Line line : lines.subList(0, Math.min(MAX_ENTRIES, lines.size()))) {
+            writer.write(line.text);
+            writer.write('\t');
+            writer.write(Long.toString(line.count));
+            writer.write('\n');
+        }
+    }
+
+    private static final class Line {
+        private final String text;
+        private final long count;
+
+        Line(String text, long count) {
+            this.text = text;
+            this.count = count;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package com.ainoha.internal.annotation.processors;
 
 import com.ainoha.core.annotation.CssPressedStyleOnTouch;
+import com.ainoha.core.annotation.MeasureInputLatency;
 import com.ainoha.core.annotation.PostInitialize;
 import com.ainoha.core.annotation.TableViewBinding;
 import com.ainoha.core.validators.InputValidator;
@@ -37,7 +38,8 @@ public final class AnnotationProcessorHub {
                 PostInitialize.class, new PostInitializeAnnotationProcessor(),
                 InputValidator.class, new InputValidatorAnnotationProcessor(),
                 TableViewBinding.class, new TableViewBindingAnnotationProcessor(),
-                CssPressedStyleOnTouch.class, new CssPressedStyleOnTouchAnnotationProcessor()
+                CssPressedStyleOnTouch.class, new CssPressedStyleOnTouchAnnotationProcessor(),
+                MeasureInputLatency.class, new MeasureInputLatencyAnnotationProcessor()
         );
     }
 
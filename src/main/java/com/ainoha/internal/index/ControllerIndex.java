@@ -0,0 +1,209 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.index;
+
+import com.ainoha.core.annotation.FxmlController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the view controllers (classes annotated with {@code @}{@link FxmlController}) of the application. The
+ * index is written at build time by {@link ControllerIndexProcessor} and loaded once at startup, so the controllers
+ * metadata is known without scanning the CLASSPATH.<br>
+ * <br>
+ * Index file ({@link ControllerIndex#RESOURCE_NAME}) format is one line per controller with the following values,
+ * separated by tabs: controller class name, absolute FXML file path, absolute icon path, title key and title. Lines
+ * starting with {@code #} are comments. Lines with a sixth value, written by the previous versions of the index, are
+ * accepted and the value is ignored.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class ControllerIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ControllerIndex.class.getName());
+
+    /**
+     * Index file path within the CLASSPATH
+     */
+    public static final String RESOURCE_NAME = "META-INF/ainoha/controllers.idx";
+
+    static final String HEADER = "# Ainoha Framework controllers index v1";
+
+    private static volatile Map<String, Entry> entries = Collections.emptyMap();
+
+    private ControllerIndex() {}
+
+    /**
+     * Loads all the index files visible to {@code classLoader}, replacing any previously loaded index.
+     *
+     * @param classLoader Class loader used to find the index files
+     */
+    public static void load(ClassLoader classLoader) {
+        Map<String, Entry> loadedEntries = new HashMap<>();
+
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(RESOURCE_NAME);
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+                try (Reader reader = new InputStreamReader(indexFile.openStream(), StandardCharsets.UTF_8)) {
+                    read(reader).forEach(entry -> loadedEntries.put(entry.getControllerClassName(), entry));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Controllers index could not be loaded. Controllers metadata will be taken "
+                    + "from their annotations", e);
+        }
+
+        entries = Collections.unmodifiableMap(loadedEntries);
+    }
+
+    /**
+     * Allows to get the index entry of {@code controllerClass}.
+     *
+     * @param controllerClass View controller class
+     *
+     * @return The entry or an empty {@link Optional} if the class is not indexed
+     */
+    public static Optional<Entry> entryFor(Class<?> controllerClass) {
+        return Optional.ofNullable(entries.get(controllerClass.getName()));
+    }
+
+    /**
+     * @return All the indexed controllers
+     */
+    public static Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    static List<Entry> read(Reader reader) throws IOException {
+        List<Entry> result = new ArrayList<>();
+
+        BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] values = line.split("\t", -1);
+            if (values.length != 5 && values.length != 6) {
+                throw new IOException("Invalid controllers index line: " + line);
+            }
+
+            result.add(new Entry(unescape(values[0]), unescape(values[1]), unescape(values[2]),
+                                 unescape(values[3]), unescape(values[4])));
+        }
+
+        return result;
+    }
+
+    static String write(Entry entry) {
+        return escape(entry.controllerClassName) + '\t'
+                + escape(entry.fxmlPath) + '\t'
+                + escape(entry.iconPath) + '\t'
+                + escape(entry.titleKey) + '\t'
+                + escape(entry.title);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': result.append('\t'); break;
+                    case 'n': result.append('\n'); break;
+                    case 'r': result.append('\r'); break;
+                    default: result.append(next);
+                }
+            } else {
+                result.append(c);
+            }
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Metadata of an indexed view controller.
+     */
+    public static final class Entry {
+        private final String controllerClassName;
+        private final String fxmlPath;
+        private final String iconPath;
+        private final String titleKey;
+        private final String title;
+
+        Entry(String controllerClassName, String fxmlPath, String iconPath, String titleKey, String title) {
+            this.controllerClassName = controllerClassName;
+            this.fxmlPath = fxmlPath;
+            this.iconPath = iconPath;
+            this.titleKey = titleKey;
+            this.title = title;
+        }
+
+        public String getControllerClassName() {
+            return controllerClassName;
+        }
+
+        /**
+         * @return Absolute path, in the CLASSPATH, to the view FXML file (including the {@code .fxml} extension)
+         */
+        public String getFxmlPath() {
+            return fxmlPath;
+        }
+
+        /**
+         * @return Absolute path, in the CLASSPATH, to the view icon
+         */
+        public String getIconPath() {
+            return iconPath;
+        }
+
+        public String getTitleKey() {
+            return titleKey;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.index;
+
+import com.ainoha.core.annotation.FxmlController;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor which writes the controllers index (see {@link ControllerIndex}) with all the classes
+ * annotated with {@code @}{@link FxmlController}.<br>
+ * <br>
+ * It also checks that the FXML file of each controller exists, so a missing view is reported at build time instead
+ * of throwing a {@link com.ainoha.core.exception.ViewNotFoundException} at runtime. The FXML files are searched in the
+ * compiler output, source path and class path, which do not include the resources directory of every build tool
+ * (i.e. Gradle), so missing views are reported as warnings by default. This can be changed to errors with the processor
+ * option {@code -Aainoha.index.missingFxml=error}.<br>
+ * <br>
+ * If the compiler output already contains an index (incremental compilation), the controllers not compiled in this
+ * run are kept in the new index, as long as they still exist and are annotated with {@code @}{@link FxmlController}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public class ControllerIndexProcessor extends AbstractProcessor {
+
+    static final String MISSING_FXML_OPTION = "ainoha.index.missingFxml";
+
+    private final Map<String, ControllerIndex.Entry> entries = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(FxmlController.class.getName());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(MISSING_FXML_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FxmlController.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            TypeElement controller = (TypeElement) element;
+            if (controller.getAnnotation(FxmlController.class).fxmlPath().isBlank()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "The value of 'fxmlPath' parameter "
+                        + "is empty in the annotation @" + FxmlController.class.getName(), controller);
+                continue;
+            }
+
+            ControllerIndex.Entry entry = toEntry(controller);
+            checkFxmlFileExists(controller, entry.getFxmlPath());
+
+            entries.put(entry.getControllerClassName(), entry);
+            originatingElements.add(controller);
+        }
+
+        if (roundEnv.processingOver() && !entries.isEmpty()) {
+            writeIndex();
+        }
+
+        return false;
+    }
+
+    private ControllerIndex.Entry toEntry(TypeElement controller) {
+        FxmlController annotation = controller.getAnnotation(FxmlController.class);
+        String packageName = processingEnv.getElementUtils().getPackageOf(controller).getQualifiedName().toString();
+
+        String fxmlPath = annotation.fxmlPath();
+        if (!fxmlPath.endsWith(".fxml")) {
+            fxmlPath += ".fxml";
+        }
+
+        return new ControllerIndex.Entry(processingEnv.getElementUtils().getBinaryName(controller).toString(),
+                                         toAbsolutePath(packageName, fxmlPath),
+                                         toAbsolutePath(packageName, annotation.iconPath()),
+                                         annotation.titleKey(),
+                                         annotation.title());
+    }
+
+    /**
+     * Resolves {@code path} in the same way as {@link Class#getResource(String)} does.
+     */
+    private static String toAbsolutePath(String packageName, String path) {
+        if (path.isBlank() || path.startsWith("/")) {
+            return path;
+        }
+
+        return packageName.isEmpty()
+                ? "/" + path
+                : "/" + packageName.replace('.', '/') + "/" + path;
+    }
+
+    private void checkFxmlFileExists(TypeElement controller, String fxmlPath) {
+        String relativeName = fxmlPath.substring(1);
+        for (var location : List.of(StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH)) {
+            try {
+                FileObject file = processingEnv.getFiler().getResource(location, "", relativeName);
+                try (InputStream ignored = file.openInputStream()) {
+                    return;
+                }
+            } catch (IOException | RuntimeException e) {
+                // Not found in this location
+            }
+        }
+
+        Diagnostic.Kind kind = "error".equalsIgnoreCase(processingEnv.getOptions().get(MISSING_FXML_OPTION))
+                ? Diagnostic.Kind.ERROR
+                : Diagnostic.Kind.WARNING;
+        processingEnv.getMessager().printMessage(kind, "The FXML view file '" + fxmlPath + "' was not found",
+                                                 controller);
+    }
+
+    /**
+     * Adds to {@link #entries} the entries of the index already written in the compiler output whose controllers were
+     * not compiled in this run, discarding the ones which no longer exist or are no longer annotated.
+     */
+    private void mergePreviousIndex() {
+        List<ControllerIndex.Entry> previousEntries;
+        try {
+            FileObject indexFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "",
+                                                                        ControllerIndex.RESOURCE_NAME);
+            try (Reader reader = new InputStreamReader(indexFile.openInputStream(), StandardCharsets.UTF_8)) {
+                previousEntries = ControllerIndex.read(reader);
+            }
+        } catch (IOException | RuntimeException e) {
+            // There is no previous index (i.e. full build) or it is not valid, so it is replaced
+            return;
+        }
+
+        for (var entry : previousEntries) {
+            if (entries.containsKey(entry.getControllerClassName())) {
+                continue;
+            }
+
+            TypeElement controller = processingEnv.getElementUtils()
+                    .getTypeElement(entry.getControllerClassName().replace('$', '.'));
+            if (controller != null && controller.getAnnotation(FxmlController.class) != null) {
+                entries.put(entry.getControllerClassName(), entry);
+                originatingElements.add(controller);
+            }
+        }
+    }
+
+    private void writeIndex() {
+        mergePreviousIndex();
+
+        try {
+            FileObject indexFile = processingEnv.getFiler().createResource(
+                    StandardLocation.CLASS_OUTPUT,
+                    "",
+                    ControllerIndex.RESOURCE_NAME,
+                    originatingElements.toArray(new Element[0])
+            );
+
+            try (Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(ControllerIndex.HEADER);
+                writer.write('\n');
+                for (var entry : entries.values()) {
+                    writer.write(ControllerIndex.write(entry));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Controllers index could not be written: " + e.getMessage());
+        }
+    }
+}
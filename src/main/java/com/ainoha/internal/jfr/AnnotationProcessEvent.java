@@ -0,0 +1,49 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when a framework annotation of a controller member is processed (see
+ * {@link com.ainoha.internal.annotation.processors.AnnotationProcessor}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(AnnotationProcessEvent.NAME)
+@Label("Annotation Process")
+@Description("Processing of a framework annotation of a view controller member")
+@Category(FrameworkEvents.CATEGORY)
+@StackTrace(false)
+public final class AnnotationProcessEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.AnnotationProcess";
+
+    @Label("Controller Class")
+    public Class<?> controllerClass;
+
+    @Label("Annotation")
+    public Class<?> annotation;
+
+    @Label("Member")
+    @Description("Name of the annotated field or method")
+    public String member;
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when the framework dependencies (Stage, Scene, language resources, etc.) are injected
+ * into a view controller.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(ControllerInjectEvent.NAME)
+@Label("Controller Inject")
+@Description("Injection of the framework dependencies into a view controller")
+@Category(FrameworkEvents.CATEGORY)
+@StackTrace(false)
+public final class ControllerInjectEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.ControllerInject";
+
+    @Label("Controller Class")
+    public Class<?> controllerClass;
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.util.Optional;
+
+/**
+ * Flight Recorder events emitted by the framework. All of them belong to the category {@link #CATEGORY} and are
+ * enabled in a recording as any other JFR event, i.e. {@code -XX:StartFlightRecording=settings=profile}. While no
+ * recording is running, emitting them has near zero cost: the data of each event (i.e. the node count of a loaded
+ * view) must be computed only if {@link jdk.jfr.Event#shouldCommit()} returns {@code true}.<br>
+ * <br>
+ * The {@code jdk.jfr} module is an optional dependency of the framework, so the runtime images built with
+ * {@code jlink} do not need to include it. The events must be created only if {@link #AVAILABLE} is {@code true}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class FrameworkEvents {
+
+    /**
+     * Category of the framework events
+     */
+    public static final String CATEGORY = "Ainoha Framework";
+
+    /**
+     * {@code true} if the {@code jdk.jfr} module is present at runtime and readable by the framework
+     */
+    public static final boolean AVAILABLE = isJfrReadable();
+
+    private FrameworkEvents() {}
+
+    private static boolean isJfrReadable() {
+        Optional<Module> jfrModule = ModuleLayer.boot().findModule("jdk.jfr");
+        return jfrModule.isPresent() && FrameworkEvents.class.getModule().canRead(jfrModule.get());
+    }
+
+    /**
+     * @param root Root of a node tree
+     *
+     * @return Number of nodes of the tree, including {@code root}
+     */
+    public static int countNodes(Node root) {
+        int count = 1;
+        if (root instanceof Parent) {
+            for (Node child : ((Parent) root).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event emitted when the JavaFX Application Thread is blocked for longer than the watchdog threshold
+ * (see {@link com.ainoha.internal.FxThreadWatchdog}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(FxThreadStallEvent.NAME)
+@Label("FX Thread Stall")
+@Description("JavaFX Application Thread blocked longer than the watchdog threshold")
+@Category(FrameworkEvents.CATEGORY)
+@StackTrace(false)
+public final class FxThreadStallEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.FxThreadStall";
+
+    @Label("Stall Time")
+    @Description("Time the thread had been blocked when the stall was detected")
+    @Timespan(Timespan.MILLISECONDS)
+    public long stallTime;
+
+    @Label("Controller Class")
+    @Description("View controller class found in the JavaFX Application Thread stack, if any")
+    public String controllerClass;
+
+    @Label("Controller Method")
+    @Description("Controller method found in the JavaFX Application Thread stack, if any")
+    public String controllerMethod;
+
+    @Label("Stack Trace")
+    @Description("JavaFX Application Thread stack trace")
+    public String fxThreadStackTrace;
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when the application language resources are loaded.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(ResourceBundleLoadEvent.NAME)
+@Label("Resource Bundle Load")
+@Description("Loading of the application language resources")
+@Category(FrameworkEvents.CATEGORY)
+public final class ResourceBundleLoadEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.ResourceBundleLoad";
+
+    @Label("Base Name")
+    public String baseName;
+
+    @Label("Locale")
+    public String locale;
+
+    @Label("Found")
+    @Description("Whether the language resources were found")
+    public boolean found;
+
+    @Label("Compiled")
+    @Description("Whether the language resources were compiled at build time")
+    public boolean compiled;
+}
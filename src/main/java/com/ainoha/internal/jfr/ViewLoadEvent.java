@@ -0,0 +1,49 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event emitted when the node tree of a view is built from its FXML file. The event duration is the
+ * view loading time.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(ViewLoadEvent.NAME)
+@Label("View Load")
+@Description("Loading of the node tree of a view")
+@Category(FrameworkEvents.CATEGORY)
+@StackTrace(false)
+public final class ViewLoadEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.ViewLoad";
+
+    @Label("Controller Class")
+    public Class<?> controllerClass;
+
+    @Label("FXML Path")
+    public String fxmlPath;
+
+    @Label("Node Count")
+    @Description("Number of nodes of the view tree")
+    public int nodeCount;
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a view is reloaded within its Stage (see {@link com.ainoha.core.Reloadable}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+@Name(ViewReloadEvent.NAME)
+@Label("View Reload")
+@Description("Reloading of a view within its Stage")
+@Category(FrameworkEvents.CATEGORY)
+public final class ViewReloadEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.ainoha.ViewReload";
+
+    @Label("Controller Class")
+    public Class<?> controllerClass;
+
+    @Label("Fully")
+    @Description("Whether all the annotated controller members were processed, or only the fields")
+    public boolean fully;
+
+    @Label("Texts Only")
+    @Description("Whether only the localized texts were requested to be updated, keeping the node tree")
+    public boolean textsOnly;
+}
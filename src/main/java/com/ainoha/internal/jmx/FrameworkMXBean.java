@@ -0,0 +1,137 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jmx;
+
+import java.util.Map;
+
+/**
+ * Management interface of the framework runtime state, registered as {@value #OBJECT_NAME}. It can be inspected with
+ * any JMX client (JConsole, VisualVM, etc.) without restarting the application.<br>
+ * <br>
+ * Latencies are expressed in milliseconds.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public interface FrameworkMXBean {
+
+    String OBJECT_NAME = "com.ainoha:type=Framework";
+
+    /**
+     * @return Number of views currently showing per controller class
+     */
+    Map<String, Integer> getOpenViews();
+
+    /**
+     * @return Number of FXML documents kept in memory
+     */
+    int getCachedViewTemplates();
+
+    /**
+     * @return Number of controller classes whose metadata is kept in memory
+     */
+    int getCachedControllersMetadata();
+
+    /**
+     * @return Number of decoded view icons kept in memory
+     */
+    int getCachedImages();
+
+    /**
+     * @return Ratio of the classes imported by the FXML files resolved from the cache
+     */
+    double getClassResolutionCacheHitRate();
+
+    /**
+     * @return Ratio of the views preloaded before they were shown for the first time, or -1 if the view preloading is
+     *         not enabled (see {@link com.ainoha.internal.ViewPreloader})
+     */
+    double getViewPreloadHitRate();
+
+    /**
+     * @return Language resources loaded so far, as {@code baseName (locale)}
+     */
+    String[] getLoadedResourceBundles();
+
+    /**
+     * @return Current locale
+     */
+    String getLocale();
+
+    /**
+     * @return Number of views shown per controller class
+     */
+    Map<String, Long> getViewShowCounts();
+
+    /**
+     * @return Median view show latency per controller class
+     */
+    Map<String, Double> getViewShowP50Millis();
+
+    /**
+     * @return 99th percentile of the view show latency per controller class
+     */
+    Map<String, Double> getViewShowP99Millis();
+
+    /**
+     * @return Number of views reloaded per controller class
+     */
+    Map<String, Long> getViewReloadCounts();
+
+    /**
+     * @return 99th percentile of the view reload latency per controller class
+     */
+    Map<String, Double> getViewReloadP99Millis();
+
+    /**
+     * @return 99th percentile of the input-to-render latency per control
+     *         (see {@link com.ainoha.core.annotation.MeasureInputLatency})
+     */
+    Map<String, Double> getInputLatencyP99Millis();
+
+    /**
+     * @return Number of background tasks (i.e. bootstrap tasks) waiting to be executed
+     */
+    int getBackgroundQueueSize();
+
+    /**
+     * @return Number of background tasks being executed
+     */
+    int getBackgroundActiveTasks();
+
+    /**
+     * JavaFX does not expose the number of tasks waiting to be executed on the JavaFX Application Thread, so the time
+     * taken to execute a new task is measured instead: it grows with the queue length and with the time spent by
+     * each task.
+     *
+     * @return Time, in milliseconds, taken to execute a task submitted to the JavaFX Application Thread, or -1 if it
+     *         was not executed within one second (or the JavaFX runtime is not running)
+     */
+    double getFxDispatchLatencyMillis();
+
+    /**
+     * Clears all the view loading caches. They are filled again as views are loaded.
+     */
+    void clearCaches();
+
+    /**
+     * Changes the application locale, updating the texts of the showing views (see
+     * {@link com.ainoha.core.ApplicationContext#setLocale(java.util.Locale)}).
+     *
+     * @param languageTag IETF BCP 47 language tag, i.e. {@code es-MX}
+     */
+    void switchLocale(String languageTag);
+}
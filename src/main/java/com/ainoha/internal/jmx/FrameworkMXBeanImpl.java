@@ -0,0 +1,208 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jmx;
+
+import com.ainoha.core.ApplicationContext;
+import com.ainoha.core.exception.ApplicationContextNotFoundException;
+import com.ainoha.core.metrics.LatencyHistogram;
+import com.ainoha.internal.BackgroundTasks;
+import com.ainoha.internal.FxmlViewHelper;
+import com.ainoha.internal.InputLatencyMonitor;
+import com.ainoha.internal.OpenViews;
+import com.ainoha.internal.ViewLatencies;
+import com.ainoha.internal.ViewPreloader;
+import javafx.application.Platform;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Implementation of {@link FrameworkMXBean}.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class FrameworkMXBeanImpl implements FrameworkMXBean {
+
+    private static final Logger LOGGER = Logger.getLogger(FrameworkMXBeanImpl.class.getName());
+
+    FrameworkMXBeanImpl() {}
+
+    /**
+     * Registers the framework MXBean in the platform MBean server, if it is not registered yet.
+     */
+    public static void register() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var objectName = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(new FrameworkMXBeanImpl(), objectName);
+            }
+        } catch (JMException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "The framework MXBean could not be registered", e);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getOpenViews() {
+        return OpenViews.countByControllerClass();
+    }
+
+    @Override
+    public int getCachedViewTemplates() {
+        return FxmlViewHelper.cachedViewTemplates();
+    }
+
+    @Override
+    public int getCachedControllersMetadata() {
+        return FxmlViewHelper.cachedControllersMetadata();
+    }
+
+    @Override
+    public int getCachedImages() {
+        return FxmlViewHelper.cachedViewIcons();
+    }
+
+    @Override
+    public double getClassResolutionCacheHitRate() {
+        return FxmlViewHelper.classResolutionCacheStats().getHitRate();
+    }
+
+    @Override
+    public double getViewPreloadHitRate() {
+        return ViewPreloader.get().map(preloader -> preloader.stats().getHitRate()).orElse(-1.0);
+    }
+
+    @Override
+    public String[] getLoadedResourceBundles() {
+        try {
+            return ApplicationContext.instance().getLoadedResourceBundles().stream().sorted().toArray(String[]::new);
+        } catch (ApplicationContextNotFoundException e) {
+            return new String[0];
+        }
+    }
+
+    @Override
+    public String getLocale() {
+        return Locale.getDefault().toLanguageTag();
+    }
+
+    @Override
+    public Map<String, Long> getViewShowCounts() {
+        return byClassName(ViewLatencies.showLatencies(), LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getViewShowP50Millis() {
+        return byClassName(ViewLatencies.showLatencies(), histogram -> percentileMillis(histogram, 50));
+    }
+
+    @Override
+    public Map<String, Double> getViewShowP99Millis() {
+        return byClassName(ViewLatencies.showLatencies(), histogram -> percentileMillis(histogram, 99));
+    }
+
+    @Override
+    public Map<String, Long> getViewReloadCounts() {
+        return byClassName(ViewLatencies.reloadLatencies(), LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Double> getViewReloadP99Millis() {
+        return byClassName(ViewLatencies.reloadLatencies(), histogram -> percentileMillis(histogram, 99));
+    }
+
+    @Override
+    public Map<String, Double> getInputLatencyP99Millis() {
+        Map<String, Double> result = new TreeMap<>();
+        InputLatencyMonitor.latencies().forEach((controlId, histogram) ->
+                result.put(controlId, percentileMillis(histogram, 99)));
+        return result;
+    }
+
+    @Override
+    public int getBackgroundQueueSize() {
+        return BackgroundTasks.queueSize();
+    }
+
+    @Override
+    public int getBackgroundActiveTasks() {
+        return BackgroundTasks.activeCount();
+    }
+
+    @Override
+    public double getFxDispatchLatencyMillis() {
+        long startNanos = System.nanoTime();
+        var executed = new CompletableFuture<Long>();
+
+        // Platform.runLater() could block if the JavaFX runtime is starting, so the JMX client thread must not call it
+        BackgroundTasks.run(() -> Platform.runLater(() -> executed.complete(System.nanoTime())))
+                .exceptionally(e -> {
+                    executed.completeExceptionally(e);
+                    return null;
+                });
+
+        try {
+            return (executed.get(1, TimeUnit.SECONDS) - startNanos) / 1_000_000.0;
+        } catch (ExecutionException | TimeoutException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    @Override
+    public void clearCaches() {
+        FxmlViewHelper.clearCaches();
+        LOGGER.info("View loading caches cleared through JMX");
+    }
+
+    @Override
+    public void switchLocale(String languageTag) {
+        Locale locale = Locale.forLanguageTag(languageTag);
+        if (locale.getLanguage().isEmpty()) {
+            throw new IllegalArgumentException("Invalid language tag: " + languageTag);
+        }
+
+        Platform.runLater(() -> {
+            ApplicationContext.instance().setLocale(locale);
+            LOGGER.info("Locale switched to " + locale.toLanguageTag() + " through JMX");
+        });
+    }
+
+    private static <T> Map<String, T> byClassName(Map<Class<?>, LatencyHistogram> histograms,
+                                                  Function<LatencyHistogram, T> value) {
+        Map<String, T> result = new TreeMap<>();
+        histograms.forEach((controllerClass, histogram) -> result.put(controllerClass.getName(), value.apply(histogram)));
+        return result;
+    }
+
+    private static double percentileMillis(LatencyHistogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile).toNanos() / 1_000_000.0;
+    }
+}
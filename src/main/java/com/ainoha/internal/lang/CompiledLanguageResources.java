@@ -0,0 +1,146 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.lang;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Access to the language resources compiled at build time by {@link LanguageResourcesProcessor}. Each
+ * {@code .properties} file is compiled into a {@link java.util.ListResourceBundle} subclass named as the file plus the
+ * {@code $Compiled} suffix (i.e. {@code resources.lang.language_es$Compiled} for
+ * {@code resources/lang/language_es.properties}), which sets its parent bundle by itself. So creating the class of a
+ * locale gives the same bundle chain as {@link ResourceBundle#getBundle(String, Locale)}, without searching and
+ * parsing the files.<br>
+ * <br>
+ * The suffix keeps the compiled classes out of the standard lookup, which tries a class named as the bundle before its
+ * {@code .properties} file. Otherwise, an outdated class would still be used when {@link #find} rejects it.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class CompiledLanguageResources {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledLanguageResources.class.getName());
+
+    private static final String CLASS_NAME_SUFFIX = "$Compiled";
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    private CompiledLanguageResources() {}
+
+    /**
+     * @param baseName Language resources base name (i.e. {@code resources.lang.language})
+     * @param locale   Locale of the resources
+     *
+     * @return Name of the class in which the resources of {@code locale} are compiled
+     */
+    public static String bundleClassName(String baseName, Locale locale) {
+        return CONTROL.toBundleName(baseName, locale) + CLASS_NAME_SUFFIX;
+    }
+
+    /**
+     * Allows to get the compiled language resources {@code baseName} for {@code locale}. The resources of the most
+     * specific candidate locale (i.e. {@code es_MX}, then {@code es}) are returned. The base resources (without
+     * locale) are not taken into account, so when only them are available the standard lookup is used instead.<br>
+     * <br>
+     * The compiled resources are not used if any class of the bundle chain is older than its {@code .properties} file
+     * (i.e. after an incremental build in which only the files changed, or while the application is edited with
+     * {@link com.ainoha.internal.HotReloader}). The modification times are only known for files in directories, so
+     * the resources packaged in a JAR file are always used.
+     *
+     * @param classLoader Class loader of the application
+     * @param baseName    Language resources base name (i.e. {@code resources.lang.language})
+     * @param locale      Required locale
+     *
+     * @return The compiled resources or {@code null} if they are not available or are outdated
+     */
+    public static ResourceBundle find(ClassLoader classLoader, String baseName, Locale locale) {
+        List<Locale> candidates = CONTROL.getCandidateLocales(baseName, locale);
+        for (int i = 0; i < candidates.size(); i++) {
+            Locale candidate = candidates.get(i);
+            if (candidate.equals(Locale.ROOT)) {
+                break;
+            }
+
+            String className = bundleClassName(baseName, candidate);
+            Class<?> bundleClass;
+            try {
+                bundleClass = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException | LinkageError e) {
+                continue;
+            }
+
+            if (!ResourceBundle.class.isAssignableFrom(bundleClass)) {
+                continue;
+            }
+
+            // The bundle chain is made of the remaining candidates
+            for (Locale chained : candidates.subList(i, candidates.size())) {
+                if (isOutdated(classLoader, baseName, chained)) {
+                    LOGGER.warning("Compiled language resources " + bundleClassName(baseName, chained)
+                            + " are older than their .properties file, so they are not used");
+                    return null;
+                }
+            }
+
+            try {
+                return (ResourceBundle) bundleClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Compiled language resources " + className + " could not be created", e);
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return {@code true} if the compiled class of the resources {@code baseName} for {@code locale} is older than
+     *         their {@code .properties} file
+     */
+    static boolean isOutdated(ClassLoader classLoader, String baseName, Locale locale) {
+        String classPath = bundleClassName(baseName, locale).replace('.', '/') + ".class";
+        String propertiesPath = CONTROL.toResourceName(CONTROL.toBundleName(baseName, locale), "properties");
+        long classTime = lastModified(classLoader.getResource(classPath));
+        long propertiesTime = lastModified(classLoader.getResource(propertiesPath));
+
+        return classTime > 0 && classTime < propertiesTime;
+    }
+
+    /**
+     * @return Last modification time of the file {@code url} or {@code 0} if it is unknown
+     */
+    private static long lastModified(URL url) {
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return 0;
+        }
+
+        try {
+            return Files.getLastModifiedTime(Paths.get(url.toURI())).toMillis();
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.lang;
+
+import com.ainoha.core.annotation.FxApplication;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IllformedLocaleException;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PropertyResourceBundle;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Annotation processor which checks the language resources ({@code .properties} files) of the application class
+ * annotated with {@code @}{@link FxApplication} and, if the processor option {@code -Aainoha.lang.compile=true} is
+ * given, compiles them into {@link java.util.ListResourceBundle} subclasses (see {@link CompiledLanguageResources}), so
+ * they are loaded at runtime without searching and parsing the files.<br>
+ * <br>
+ * It checks that all the languages define the same keys. A key missing in a language is taken at runtime from the
+ * default language, so missing keys are reported as warnings by default; this can be changed to errors with the
+ * processor option {@code -Aainoha.lang.missingKeys=error}.<br>
+ * <br>
+ * The languages are the {@code .properties} files of the resources package found in the compiler output (where Maven
+ * copies them before the compilation), in the source path and in the directories given by the processor option
+ * {@code -Aainoha.lang.resourceDirs} (i.e. {@code src/main/resources} for Gradle, several directories are separated
+ * as in a path list).<br>
+ * <br>
+ * The processor is registered as a service of the framework JAR, so {@code javac} runs it in every build which has the
+ * framework in the compile class path, unless the processors are given explicitly or disabled ({@code -proc:none}).
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public class LanguageResourcesProcessor extends AbstractProcessor {
+
+    static final String MISSING_KEYS_OPTION = "ainoha.lang.missingKeys";
+    static final String COMPILE_OPTION = "ainoha.lang.compile";
+    static final String RESOURCE_DIRS_OPTION = "ainoha.lang.resourceDirs";
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
+    /**
+     * Maximum number of entries initialized by each method of the generated classes, so the methods code does not
+     * exceed the JVM limit
+     */
+    private static final int ENTRIES_PER_METHOD = 1000;
+
+    private final Set<String> processedBaseNames = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(FxApplication.class.getName());
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(MISSING_KEYS_OPTION, COMPILE_OPTION, RESOURCE_DIRS_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FxApplication.class)) {
+            String baseName = element.getAnnotation(FxApplication.class).langResourcesPackage();
+            if (baseName.isBlank() || !SourceVersion.isName(baseName) || !processedBaseNames.add(baseName)) {
+                continue;
+            }
+
+            Map<Locale, Map<String, String>> languages = readLanguages(baseName, element);
+            if (languages.isEmpty()) {
+                continue;
+            }
+
+            reportMissingKeys(baseName, languages, element);
+            if (!Boolean.parseBoolean(processingEnv.getOptions().get(COMPILE_OPTION))) {
+                continue;
+            }
+
+            for (var language : languages.entrySet()) {
+                String className = CompiledLanguageResources.bundleClassName(baseName, language.getKey());
+                String parentClassName = parentOf(baseName, language.getKey(), languages.keySet())
+                        .map(parent -> CompiledLanguageResources.bundleClassName(baseName, parent))
+                        .orElse(null);
+
+                writeSource(className, javaSource(className, parentClassName, language.getValue()), element);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads the {@code .properties} files of all the languages. If a language is found in several directories, the
+     * first one is read (see {@link #resourceDirs(String)}).
+     */
+    private Map<Locale, Map<String, String>> readLanguages(String baseName, Element appClass) {
+        Map<Locale, Map<String, String>> languages = new TreeMap<>(Comparator.comparing(Locale::toString));
+        String simpleName = baseName.substring(baseName.lastIndexOf('.') + 1);
+
+        for (Path dir : resourceDirs(baseName)) {
+            List<Path> files;
+            try (Stream<Path> list = Files.list(dir)) {
+                files = list.filter(file -> isLanguageFile(simpleName, file.getFileName().toString()))
+                            .sorted()
+                            .collect(Collectors.toList());
+            } catch (IOException e) {
+                continue;
+            }
+
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String bundleName = fileName.substring(0, fileName.length() - ".properties".length());
+                Optional<Locale> locale = localeOf(baseName, bundleName);
+                if (locale.isEmpty()) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "The locale of the language "
+                            + "resources '" + file + "' could not be determined, so they are ignored", appClass);
+                    continue;
+                }
+
+                if (!languages.containsKey(locale.get())) {
+                    readProperties(file).ifPresent(messages -> languages.put(locale.get(), messages));
+                }
+            }
+        }
+
+        return languages;
+    }
+
+    /**
+     * @return Directories which could contain the {@code .properties} files of {@code baseName}: the ones given by
+     *         the {@value #RESOURCE_DIRS_OPTION} option, then the ones of the compiler output and the source path
+     */
+    private Set<Path> resourceDirs(String baseName) {
+        int lastDot = baseName.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : baseName.substring(0, lastDot);
+        String fileName = baseName.substring(lastDot + 1) + ".properties";
+
+        Set<Path> dirs = new LinkedHashSet<>();
+
+        String resourceDirs = processingEnv.getOptions().get(RESOURCE_DIRS_OPTION);
+        if (resourceDirs != null) {
+            for (String resourceDir : resourceDirs.split(Pattern.quote(File.pathSeparator))) {
+                if (!resourceDir.isBlank()) {
+                    dirs.add(Paths.get(resourceDir.trim()).resolve(packageName.replace('.', '/')));
+                }
+            }
+        }
+
+        for (var location : List.of(StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH)) {
+            try {
+                URI uri = processingEnv.getFiler().getResource(location, packageName, fileName).toUri();
+                if ("file".equals(uri.getScheme())) {
+                    dirs.add(Paths.get(uri).getParent());
+                }
+            } catch (IOException | RuntimeException e) {
+                // Not available in this location
+            }
+        }
+
+        return dirs;
+    }
+
+    private static boolean isLanguageFile(String simpleName, String fileName) {
+        return fileName.endsWith(".properties")
+                && (fileName.equals(simpleName + ".properties") || fileName.startsWith(simpleName + "_"));
+    }
+
+    /**
+     * @param baseName   Language resources base name (i.e. {@code resources.lang.language})
+     * @param bundleName Name of a {@code .properties} file of {@code baseName}, without extension (i.e.
+     *                   {@code language_es_MX})
+     *
+     * @return Locale of the file, or empty if the name does not match any locale
+     */
+    static Optional<Locale> localeOf(String baseName, String bundleName) {
+        String simpleName = baseName.substring(baseName.lastIndexOf('.') + 1);
+        if (bundleName.equals(simpleName)) {
+            return Optional.of(Locale.ROOT);
+        }
+
+        // language[_Script][_COUNTRY][_variant], as ResourceBundle.Control.toBundleName writes them
+        String[] parts = bundleName.substring(simpleName.length() + 1).split("_", -1);
+        int next = 1;
+        String script = "";
+        if (next < parts.length && parts[next].matches("[A-Z][a-z]{3}")) {
+            script = parts[next++];
+        }
+        String country = "";
+        if (next < parts.length && (parts[next].matches("[A-Z]{2}|[0-9]{3}") || next + 1 < parts.length)) {
+            country = parts[next++];
+        }
+        String variant = String.join("_", Arrays.asList(parts).subList(next, parts.length));
+
+        Locale locale;
+        try {
+            locale = script.isEmpty()
+                    ? new Locale(parts[0], country, variant)
+                    : new Locale.Builder().setLanguage(parts[0]).setScript(script).setRegion(country)
+                                          .setVariant(variant).build();
+        } catch (IllformedLocaleException e) {
+            return Optional.empty();
+        }
+
+        String expected = baseName.substring(0, baseName.length() - simpleName.length()) + bundleName;
+        return CONTROL.toBundleName(baseName, locale).equals(expected)
+                ? Optional.of(locale)
+                : Optional.empty();
+    }
+
+    private static Optional<Map<String, String>> readProperties(Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            // Same encoding rules as ResourceBundle.getBundle (UTF-8, or ISO-8859-1 as fallback)
+            ResourceBundle bundle = new PropertyResourceBundle(input);
+
+            Map<String, String> messages = new TreeMap<>();
+            for (String key : bundle.keySet()) {
+                messages.put(key, bundle.getString(key));
+            }
+            return Optional.of(messages);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return The nearest parent of {@code locale} (as defined by {@link ResourceBundle#getBundle(String, Locale)})
+     *         which has resources
+     */
+    static Optional<Locale> parentOf(String baseName, Locale locale, Collection<Locale> available) {
+        if (locale.equals(Locale.ROOT)) {
+            return Optional.empty();
+        }
+
+        List<Locale> candidates = CONTROL.getCandidateLocales(baseName, locale);
+        for (Locale candidate : candidates.subList(1, candidates.size())) {
+            if (available.contains(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return Keys, by locale, defined by some language but not by the locale (nor its parents). The base resources
+     *         (without locale) are not checked since they are the parent of all the languages
+     */
+    static Map<Locale, Set<String>> missingKeys(String baseName, Map<Locale, Map<String, String>> languages) {
+        Set<String> allKeys = new TreeSet<>();
+        languages.values().forEach(messages -> allKeys.addAll(messages.keySet()));
+
+        Map<Locale, Set<String>> missingKeys = new LinkedHashMap<>();
+        for (Locale locale : languages.keySet()) {
+            if (locale.equals(Locale.ROOT)) {
+                continue;
+            }
+
+            Set<String> missing = new TreeSet<>(allKeys);
+            Optional<Locale> current = Optional.of(locale);
+            while (current.isPresent()) {
+                missing.removeAll(languages.get(current.get()).keySet());
+                current = parentOf(baseName, current.get(), languages.keySet());
+            }
+
+            if (!missing.isEmpty()) {
+                missingKeys.put(locale, missing);
+            }
+        }
+
+        return missingKeys;
+    }
+
+    private void reportMissingKeys(String baseName, Map<Locale, Map<String, String>> languages, Element appClass) {
+        Diagnostic.Kind kind = "error".equalsIgnoreCase(processingEnv.getOptions().get(MISSING_KEYS_OPTION))
+                ? Diagnostic.Kind.ERROR
+                : Diagnostic.Kind.WARNING;
+
+        missingKeys(baseName, languages).forEach((locale, keys) ->
+                processingEnv.getMessager().printMessage(kind, "The language resources '"
+                        + CONTROL.toBundleName(baseName, locale) + "' do not define the keys "
+                        + keys + " (defined in other languages)", appClass));
+    }
+
+    /**
+     * Generates the source code of the {@link java.util.ListResourceBundle} subclass {@code className}.
+     *
+     * @param className       Fully qualified class name
+     * @param parentClassName Fully qualified class name of the parent bundle or {@code null} if it has no parent
+     * @param messages        Bundle content
+     *
+     * @return Java source code
+     */
+    static String javaSource(String className, String parentClassName, Map<String, String> messages) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+        String simpleName = className.substring(lastDot + 1);
+
+        List<Map.Entry<String, String>> entries = new ArrayList<>(messages.entrySet());
+        int methodCount = (entries.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+
+        StringBuilder source = new StringBuilder(128 + entries.size() * 48);
+        source.append("// Generated by ").append(LanguageResourcesProcessor.class.getName()).append(". Do not edit\n");
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("public class ").append(simpleName).append(" extends java.util.ListResourceBundle {\n\n");
+
+        source.append("    public ").append(simpleName).append("() {\n");
+        if (parentClassName != null) {
+            source.append("        setParent(new ").append(parentClassName).append("());\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    @Override\n")
+              .append("    protected Object[][] getContents() {\n")
+              .append("        Object[][] contents = new Object[").append(entries.size()).append("][];\n");
+        for (int i = 0; i < methodCount; i++) {
+            source.append("        contents").append(i).append("(contents);\n");
+        }
+        source.append("        return contents;\n")
+              .append("    }\n");
+
+        for (int i = 0; i < methodCount; i++) {
+            source.append("\n    private static void contents").append(i).append("(Object[][] contents) {\n");
+            int end = Math.min(entries.size(), (i + 1) * ENTRIES_PER_METHOD);
+            for (int j = i * ENTRIES_PER_METHOD; j < end; j++) {
+                source.append("        contents[").append(j).append("] = new Object[] {");
+                appendJavaString(source, entries.get(j).getKey());
+                source.append(", ");
+                appendJavaString(source, entries.get(j).getValue());
+                source.append("};\n");
+            }
+            source.append("    }\n");
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private static void appendJavaString(StringBuilder source, String value) {
+        source.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': source.append("\\\""); break;
+                case '\\': source.append("\\\\"); break;
+                case '\n': source.append("\\n"); break;
+                case '\r': source.append("\\r"); break;
+                case '\t': source.append("\\t"); break;
+                default:
+                    // Non ASCII characters are escaped, so the source does not depend on the compiler encoding
+                    if (c < 0x20 || c > 0x7e) {
+                        source.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        source.append(c);
+                    }
+            }
+        }
+        source.append('"');
+    }
+
+    private void writeSource(String className, String source, Element appClass) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(className, appClass);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Language resources " + className + " could not be compiled: " + e.getMessage(), appClass);
+        }
+    }
+}
@@ -18,8 +18,6 @@ package com.ainoha.internal.utils;
 import com.ainoha.core.ApplicationContext;
 import javafx.stage.Stage;
 
-import java.util.MissingResourceException;
-import java.util.ResourceBundle;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,9 +40,9 @@ public final class StageUtil {
      * it will be used as the window title and {@code stageTitleKey} will be ignored.<br>
      * <br>
      * When {@code stageTitle} has an invalid value {@code stageTitleKey} will be used to get the window title
-     * from the language resources. If {@code stageTitleKey} has an invalid value ({@code null} or blank: see
-     * {@link String#isBlank()}), the key value not found or an exception is thrown when getting the key value,
-     * then the window title will be an empty string.<br>
+     * from the application messages (see {@link ApplicationContext#getMessageSource()}), so it is taken from the
+     * default language resources if it is not defined for the current language. If the key value is not found or an
+     * exception is thrown when getting the key value, then the window title will be an empty string.<br>
      * <br>
      * If {@code stageTitle} and {@code stageTitleKey} values are no valid the window title will be not changed.
      *
@@ -61,14 +59,11 @@ public final class StageUtil {
         } else if (stageTitleKey != null && !stageTitleKey.isBlank()) {
             String stageTitleValue = "";
             try {
-                ResourceBundle rb = context.getResourceBundle();
-
-                String defaultStageTitleValue = context.getDefaultResourceBundle() != null
-                        ? context.getDefaultResourceBundle().getString(stageTitleKey)
-                        : "";
-                stageTitleValue = rb != null ? rb.getString(stageTitleKey) : defaultStageTitleValue;
-            } catch (MissingResourceException e) {
-                LOGGER.severe("Window title language key '" + stageTitleKey + "' was not found.");
+                stageTitleValue = context.getMessageSource().getMessage(stageTitleKey, null);
+                if (stageTitleValue == null) {
+                    LOGGER.severe("Window title language key '" + stageTitleKey + "' was not found.");
+                    stageTitleValue = "";
+                }
             } catch (RuntimeException e) {
                 LOGGER.severe("An error occurs trying to get the value of the window title language key '"
                                       + stageTitleKey + "'");
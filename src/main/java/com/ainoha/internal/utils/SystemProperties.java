@@ -0,0 +1,147 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.utils;
+
+import java.util.logging.Logger;
+
+/**
+ * System properties used to enable and configure optional framework features.
+ *
+ * @author Eduardo Betanzos
+ * @since 1.0
+ */
+public final class SystemProperties {
+
+    private static final Logger LOGGER = Logger.getLogger(SystemProperties.class.getName());
+
+    /**
+     * If {@code true} the application runs in training mode: all the indexed views are loaded offscreen and the
+     * application exits (see {@link com.ainoha.core.ApplicationContext#startApplication(Class, String...)})
+     */
+    public static final String TRAINING_MODE = "ainoha.training";
+
+    /**
+     * Maximum time, in milliseconds, to wait for the result of a bootstrap task (language resources loading,
+     * application image decoding). Default: 30000
+     */
+    public static final String BOOTSTRAP_TIMEOUT = "ainoha.bootstrap.timeout";
+
+    /**
+     * Path of the file where the startup timeline is written when the application exits. If the file name ends with
+     * {@code .json} the timeline is written as JSON, otherwise as a text report
+     */
+    public static final String TIMELINE_EXPORT = "ainoha.timeline.export";
+
+    /**
+     * If {@code true} the JavaFX Application Thread watchdog is started (see
+     * {@link com.ainoha.internal.FxThreadWatchdog})
+     */
+    public static final String WATCHDOG = "ainoha.watchdog";
+
+    /**
+     * Time, in milliseconds, after which the JavaFX Application Thread is considered stalled by the watchdog.
+     * Default: 100
+     */
+    public static final String WATCHDOG_THRESHOLD = "ainoha.watchdog.threshold";
+
+    /**
+     * If {@code true} the frame monitor is enabled (see {@link com.ainoha.internal.FrameMonitor})
+     */
+    public static final String FRAME_MONITOR = "ainoha.frameMonitor";
+
+    /**
+     * If {@code true} the input-to-render latency of all the controls of all the views is measured (see
+     * {@link com.ainoha.internal.InputLatencyMonitor})
+     */
+    public static final String INPUT_LATENCY = "ainoha.inputLatency";
+
+    /**
+     * Source directories (separated by {@link java.io.File#pathSeparator}) of the FXML files and stylesheets, i.e.
+     * {@code src/main/resources}. If defined, the views are reloaded when their files change (see
+     * {@link com.ainoha.internal.HotReloader}). Only for development
+     */
+    public static final String HOT_RELOAD = "ainoha.hotReload";
+
+    /**
+     * Path of the file where the views opened by the user are recorded. If defined, the views most likely to be
+     * opened are preloaded (see {@link com.ainoha.internal.ViewPreloader})
+     */
+    public static final String VIEW_PROFILE = "ainoha.viewProfile";
+
+    /**
+     * Number of views, among the ones most sessions started with, preloaded at startup. Default: 3
+     */
+    public static final String PRELOAD_FIRST_VIEWS = "ainoha.preload.firstViews";
+
+    /**
+     * Maximum size, in bytes, of the FXML documents read into memory by the view preloading. The documents of the views
+     * shown are kept in memory too, out of this budget. Default: 2097152
+     */
+    public static final String PRELOAD_BUDGET = "ainoha.preload.budget";
+
+    /**
+     * Maximum size, in bytes, of the FXML documents kept in memory after their views are loaded, so they are not read
+     * again from the CLASSPATH. Default: 4194304
+     */
+    public static final String FXML_CACHE_SIZE = "ainoha.fxmlCache.size";
+
+    /**
+     * If {@code true} the framework MXBean is registered (see {@link com.ainoha.internal.jmx.FrameworkMXBean})
+     */
+    public static final String JMX = "ainoha.jmx";
+
+    private SystemProperties() {}
+
+    /**
+     * @param name System property name
+     *
+     * @return {@code true} if the system property is defined and its value is {@code true} (ignoring case)
+     */
+    public static boolean isEnabled(String name) {
+        return Boolean.getBoolean(name);
+    }
+
+    /**
+     * @param name System property name
+     *
+     * @return System property value or {@code null} if the system property is not defined or it is blank
+     */
+    public static String getString(String name) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * @param name         System property name
+     * @param defaultValue Value to return if the system property is not defined or its value is not a number
+     *
+     * @return System property value as {@code long}
+     */
+    public static long getLong(String name, long defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Invalid value '" + value + "' for the system property " + name + ". Using the default "
+                    + "value: " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
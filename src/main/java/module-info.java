@@ -3,8 +3,17 @@ module ainoha.core {
     exports com.ainoha.core.annotation;
     exports com.ainoha.core.validators;
     exports com.ainoha.core.exception;
+    exports com.ainoha.core.metrics;
+
+    // Required by the JMX introspection of the framework MXBean, which is only registered if java.management is present
+    exports com.ainoha.internal.jmx to java.management;
 
     requires javafx.controls;
     requires javafx.fxml;
     requires java.logging;
+    requires static java.management;
+    requires static jdk.jfr;
+    // Only used by the annotation processors, which javac finds through META-INF/services in the class path. They
+    // are not provided as services of the module, since that would require java.compiler at runtime
+    requires static java.compiler;
 }
\ No newline at end of file
@@ -2,12 +2,24 @@ package com.ainoha.core;
 
 import com.ainoha.core.annotation.FxApplication;
 import com.ainoha.core.exception.ApplicationContextNotFoundException;
+import com.ainoha.core.metrics.StartupTimeline;
+import com.ainoha.internal.TestCompilation;
+import com.ainoha.internal.lang.LanguageResourcesProcessor;
 import javafx.application.Application;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import test.utils.ApplicationContextUtil;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -77,4 +89,36 @@ public final class ApplicationContextTest {
         assertThat(ApplicationContext.instance())
                 .isSameAs(mockApplicationContext);
     }
+
+
+    // TESTS FOR METHOD: getResourceBundle()
+    @Test
+    public void languageResourcesEditedAfterTheCompilationAreNotTakenFromTheCompiledClasses() throws Exception {
+        Path outputDir = Files.createTempDirectory("ainoha-out");
+        TestCompilation.write(outputDir, Map.of("lang/messages.properties", "title=Welcome\n",
+                                                "lang/messages_es.properties", "title=Bienvenido\n"));
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/App.java", "package app;\n"
+                + "@com.ainoha.core.annotation.FxApplication(langResourcesPackage = \"lang.messages\")\n"
+                + "public class App {}\n"));
+        TestCompilation.compile(sourceDir, outputDir, new LanguageResourcesProcessor(), "-Aainoha.lang.compile=true");
+
+        Path spanish = outputDir.resolve("lang/messages_es.properties");
+        Files.writeString(spanish, "title=¡Bienvenido!\n");
+        Files.setLastModifiedTime(spanish, FileTime.from(Instant.now().plusSeconds(60)));
+
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("es"));
+        try (var classLoader = new URLClassLoader(new URL[] {outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            var constructor = ApplicationContext.class.getDeclaredConstructor(
+                    Class.class, String.class, String.class, String.class, Class[].class, StartupTimeline.class,
+                    String[].class);
+            constructor.setAccessible(true);
+            var context = constructor.newInstance(classLoader.loadClass("app.App"), "lang.messages", "", "",
+                                                  new Class[0], new StartupTimeline(), new String[0]);
+
+            assertThat(context.getResourceBundle().getString("title")).isEqualTo("¡Bienvenido!");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
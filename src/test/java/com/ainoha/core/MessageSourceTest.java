@@ -0,0 +1,86 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MessageSourceTest {
+
+    private static ResourceBundle bundle(ResourceBundle parentBundle, Object[][] contents) {
+        return new ListResourceBundle() {
+            {
+                setParent(parentBundle);
+            }
+
+            @Override
+            protected Object[][] getContents() {
+                return contents;
+            }
+        };
+    }
+
+    @Test
+    public void messagesAreTakenFromTheLocaleThenItsParentsThenTheDefaultLanguage() {
+        var english = bundle(null, new Object[][] {{"title", "Welcome"}, {"accept", "Accept"}, {"help", "Help"}});
+        var spanish = bundle(null, new Object[][] {{"title", "Bienvenido"}, {"accept", "Aceptar"}});
+        var mexicanSpanish = bundle(spanish, new Object[][] {{"title", "Bienvenido, amigo"}});
+
+        var messages = new MessageSource(new Locale("es", "MX"), mexicanSpanish, english);
+
+        assertThat(messages.getLocale()).isEqualTo(new Locale("es", "MX"));
+        assertThat(messages.getMessage("title")).contains("Bienvenido, amigo");
+        assertThat(messages.getMessage("accept")).contains("Aceptar");
+        assertThat(messages.getMessage("help")).contains("Help");
+    }
+
+    @Test
+    public void missingKeysReturnNoMessage() {
+        var messages = new MessageSource(Locale.ROOT, bundle(null, new Object[][] {{"title", "Welcome"}}), null);
+
+        assertThat(messages.getMessage("missing")).isEmpty();
+        assertThat(messages.getMessage("missing", "Default")).isEqualTo("Default");
+        assertThat(messages.contains("missing")).isFalse();
+        assertThat(messages.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void withoutResourcesThereAreNoMessages() {
+        var messages = new MessageSource(Locale.ROOT, null, null);
+
+        assertThat(messages.isEmpty()).isTrue();
+        assertThat(messages.getMessage("title")).isEmpty();
+    }
+
+    @Test
+    public void messagesCanBeUsedAsResourceBundle() {
+        var english = bundle(null, new Object[][] {{"title", "Welcome"}, {"help", "Help"}});
+        var spanish = bundle(null, new Object[][] {{"title", "Bienvenido"}});
+
+        ResourceBundle rb = new MessageSource(new Locale("es"), spanish, english).asResourceBundle();
+
+        assertThat(rb.getLocale()).isEqualTo(new Locale("es"));
+        assertThat(rb.getString("title")).isEqualTo("Bienvenido");
+        assertThat(rb.getString("help")).isEqualTo("Help");
+        assertThat(rb.containsKey("missing")).isFalse();
+        assertThat(rb.keySet()).containsExactlyInAnyOrder("title", "help");
+    }
+}
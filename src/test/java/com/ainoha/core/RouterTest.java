@@ -0,0 +1,175 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core;
+
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RouterTest {
+
+    private static final List<String> events = new ArrayList<>();
+
+    public static class HomeController implements Navigable {
+        @Override
+        public void onEnter(Object params) {
+            events.add("enter home " + params);
+        }
+
+        @Override
+        public void onLeave() {
+            events.add("leave home");
+        }
+    }
+
+    public static class DetailsController {}
+
+    public static class SettingsController {}
+
+    public static class BrokenController {}
+
+    private final Pane host = new Pane();
+    private final List<Class<?>> loadedViews = new ArrayList<>();
+    private Router router;
+
+    @BeforeEach
+    public void createRouter() {
+        events.clear();
+        router = new Router(root -> {
+            host.getChildren().setAll(root);
+            return null;
+        }, (controllerClass, params, display) -> {
+            loadedViews.add(controllerClass);
+
+            // Each view has 3 nodes
+            display.apply(new Pane(new Pane(), new Pane()));
+            if (controllerClass == BrokenController.class) {
+                throw new IllegalStateException("Broken view");
+            }
+
+            try {
+                return controllerClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private Parent displayedRoot() {
+        return (Parent) host.getChildren().get(0);
+    }
+
+    @Test
+    public void visitedViewsAreDisplayedAgainWithoutLoadingThem() {
+        var home = router.navigate(HomeController.class);
+        Parent homeRoot = displayedRoot();
+        var details = router.navigate(DetailsController.class, "order-1");
+
+        assertThat(router.canGoBackProperty().get()).isTrue();
+        assertThat(router.canGoForwardProperty().get()).isFalse();
+
+        assertThat(router.back()).containsSame(home);
+        assertThat(displayedRoot()).isSameAs(homeRoot);
+        assertThat(router.canGoBackProperty().get()).isFalse();
+        assertThat(router.canGoForwardProperty().get()).isTrue();
+        assertThat(router.back()).isEmpty();
+
+        assertThat(router.forward()).containsSame(details);
+        assertThat(router.getCurrentController()).containsSame(details);
+        assertThat(loadedViews).containsExactly(HomeController.class, DetailsController.class);
+        assertThat(router.getCacheStats().getHitCount()).isEqualTo(2);
+        assertThat(router.getCacheStats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void navigatingClearsTheForwardHistory() {
+        router.navigate(HomeController.class);
+        router.navigate(DetailsController.class);
+        router.back();
+
+        router.navigate(SettingsController.class);
+
+        assertThat(router.canGoForwardProperty().get()).isFalse();
+        assertThat(router.back().map(Object::getClass)).contains(HomeController.class);
+    }
+
+    @Test
+    public void navigableControllersAreNotifiedWhenEnteringAndLeaving() {
+        router.navigate(HomeController.class, "first");
+        router.navigate(DetailsController.class);
+        router.back();
+
+        assertThat(events).containsExactly("enter home first", "leave home", "enter home first");
+    }
+
+    @Test
+    public void viewsAreLoadedAgainWithDifferentParamsUnlessNavigable() {
+        var details = router.navigate(DetailsController.class, "order-1");
+        var home = router.navigate(HomeController.class, "first");
+
+        assertThat(router.navigate(DetailsController.class, "order-2")).isNotSameAs(details);
+        assertThat(router.navigate(HomeController.class, "second")).isSameAs(home);
+        assertThat(events).endsWith("enter home second");
+    }
+
+    @Test
+    public void leastRecentlyVisitedViewsAreDiscarded() {
+        router.setMaxCachedViews(2);
+
+        router.navigate(HomeController.class);
+        router.navigate(DetailsController.class);
+        router.navigate(SettingsController.class);
+        router.back();
+        router.back();
+
+        assertThat(loadedViews).containsExactly(HomeController.class, DetailsController.class,
+                                                SettingsController.class, HomeController.class);
+        assertThat(router.getCacheStats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void viewsAreDiscardedWhenTheNodeBudgetIsExceeded() {
+        router.setNodeBudget(5);
+
+        router.navigate(HomeController.class);
+        router.navigate(DetailsController.class);
+
+        assertThat(router.getCacheStats().getSize()).isEqualTo(1);
+
+        router.back();
+        assertThat(loadedViews).containsExactly(HomeController.class, DetailsController.class, HomeController.class);
+    }
+
+    @Test
+    public void currentViewIsKeptIfTheNavigationFails() {
+        var home = router.navigate(HomeController.class);
+        Parent homeRoot = displayedRoot();
+
+        assertThatThrownBy(() -> router.navigate(BrokenController.class)).hasMessage("Broken view");
+
+        assertThat(displayedRoot()).isSameAs(homeRoot);
+        assertThat(router.getCurrentController()).containsSame(home);
+        assertThat(router.canGoBackProperty().get()).isFalse();
+        assertThat(events).containsExactly("enter home null", "leave home", "enter home null");
+    }
+}
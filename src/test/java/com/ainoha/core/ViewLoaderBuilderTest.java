@@ -101,6 +101,13 @@ public final class ViewLoaderBuilderTest {
                     var fullScreenExitKeyCombination = new KeyCodeCombination(KeyCode.F12, KeyCombination.SHIFT_DOWN);
                     builder.fullScreenExitKeyCombination(fullScreenExitKeyCombination);
                     assertEquals(fullScreenExitKeyCombination, getFieldValue(ViewLoaderBuilder.class, "fullScreenExitKeyCombination", builder));
+                },
+
+                // frameStatsOverlay
+                () -> {
+                    assertFalse((boolean) getFieldValue(ViewLoaderBuilder.class, "frameStatsOverlay", builder));
+                    builder.frameStatsOverlay();
+                    assertTrue((boolean) getFieldValue(ViewLoaderBuilder.class, "frameStatsOverlay", builder));
                 }
         );
     }
@@ -170,7 +177,8 @@ public final class ViewLoaderBuilderTest {
                 .notResizable()
                 .maximized()
                 .fullScreenExitHint("My Full Screen Exit Hint")
-                .fullScreenExitKeyCombination(new KeyCodeCombination(KeyCode.F12, KeyCombination.SHIFT_DOWN));
+                .fullScreenExitKeyCombination(new KeyCodeCombination(KeyCode.F12, KeyCombination.SHIFT_DOWN))
+                .frameStatsOverlay();
 
         assertAll("before reset",
                 // stage
@@ -190,7 +198,9 @@ public final class ViewLoaderBuilderTest {
                 // fullScreenExitHint
                 () -> assertNotNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitHint", builder)),
                 // fullScreenExitKeyCombination
-                () -> assertNotNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitKeyCombination", builder))
+                () -> assertNotNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitKeyCombination", builder)),
+                // frameStatsOverlay
+                () -> assertTrue((boolean) getFieldValue(ViewLoaderBuilder.class, "frameStatsOverlay", builder))
         );
 
         // Reset default values
@@ -214,7 +224,9 @@ public final class ViewLoaderBuilderTest {
                   // fullScreenExitHint
                   () -> assertNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitHint", builder)),
                   // fullScreenExitKeyCombination
-                  () -> assertNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitKeyCombination", builder))
+                  () -> assertNull(getFieldValue(ViewLoaderBuilder.class, "fullScreenExitKeyCombination", builder)),
+                  // frameStatsOverlay
+                  () -> assertFalse((boolean) getFieldValue(ViewLoaderBuilder.class, "frameStatsOverlay", builder))
         );
     }
 }
\ No newline at end of file
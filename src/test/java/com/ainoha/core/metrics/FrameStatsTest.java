@@ -0,0 +1,26 @@
+package com.ainoha.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrameStatsTest {
+
+    @Test
+    public void getFpsIsComputedFromTheTotalFrameTime() {
+        var stats = new FrameStats(120, 2, Duration.ofSeconds(2), Duration.ofMillis(16), Duration.ofMillis(33),
+                                   Duration.ZERO, Duration.ZERO);
+
+        assertThat(stats.getFps()).isEqualTo(60.0);
+        assertThat(stats.toString()).isEqualTo("FPS 60.0 | p50 16.0 ms | p99 33.0 ms | dropped 2");
+    }
+
+    @Test
+    public void getFpsIsZeroIfNoFrameWasMeasured() {
+        var stats = new FrameStats(0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+        assertThat(stats.getFps()).isZero();
+    }
+}
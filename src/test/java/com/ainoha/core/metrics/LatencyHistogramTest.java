@@ -0,0 +1,73 @@
+package com.ainoha.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketBoundsContainTheirValues() {
+        for (long value : new long[] {0, 1, 15, 16, 17, 31, 32, 1_000, 16_666_667, 1L << 40, (1L << 41) - 1}) {
+            int index = LatencyHistogram.bucketIndex(value);
+
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThanOrEqualTo(value);
+            assertThat(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) < value).isTrue();
+        }
+    }
+
+    @Test
+    public void valueAtPercentileHasBoundedRelativeError() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1_000);
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofMillis(1_000));
+        assertThat(histogram.getMean().toMillis()).isEqualTo(500);
+        assertThat((double) histogram.getValueAtPercentile(50).toNanos())
+                .isCloseTo(TimeUnit.MILLISECONDS.toNanos(500), within(TimeUnit.MILLISECONDS.toNanos(500) / 16.0));
+        assertThat((double) histogram.getValueAtPercentile(99).toNanos())
+                .isCloseTo(TimeUnit.MILLISECONDS.toNanos(990), within(TimeUnit.MILLISECONDS.toNanos(990) / 16.0));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(Duration.ofMillis(1_000));
+    }
+
+    @Test
+    public void emptyHistogramReturnsZero() {
+        var histogram = new LatencyHistogram();
+
+        assertThat(histogram.getValueAtPercentile(99)).isEqualTo(Duration.ZERO);
+        assertThat(histogram.getMean()).isEqualTo(Duration.ZERO);
+        assertThatThrownBy(() -> histogram.getValueAtPercentile(101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void recordIsThreadSafe() throws Exception {
+        var histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(histogram.getCount()).isEqualTo(40_000);
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofNanos(9_999));
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package com.ainoha.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void recordReturnsTheTaskResultAndRecordsThePhase() {
+        var timeline = new StartupTimeline();
+
+        assertThat(timeline.record("phase", () -> "result"))
+                .isEqualTo("result");
+
+        assertThat(timeline.getPhases())
+                .hasSize(1)
+                .first()
+                .satisfies(phase -> {
+                    assertThat(phase.getName()).isEqualTo("phase");
+                    assertThat(phase.getThreadName()).isEqualTo(Thread.currentThread().getName());
+                    assertThat(phase.getStartNanos()).isNotNegative();
+                    assertThat(phase.getDurationNanos()).isNotNegative();
+                });
+    }
+
+    @Test
+    public void getPhasesAreSortedByStartTime() {
+        var timeline = new StartupTimeline();
+        long now = System.nanoTime();
+
+        timeline.record("second", now + 20, now + 30);
+        timeline.record("first", now + 10, now + 40);
+
+        assertThat(timeline.getPhases())
+                .extracting(StartupTimeline.Phase::getName)
+                .containsExactly("first", "second");
+    }
+
+    @Test
+    public void markFirstWindowShownHasEffectOnlyOnce() {
+        var timeline = new StartupTimeline();
+
+        assertThat(timeline.getTimeToFirstWindow()).isEmpty();
+        assertThat(timeline.markFirstWindowShown()).isTrue();
+
+        var timeToFirstWindow = timeline.getTimeToFirstWindow();
+        assertThat(timeToFirstWindow).isPresent();
+        assertThat(timeline.markFirstWindowShown()).isFalse();
+        assertThat(timeline.getTimeToFirstWindow()).isEqualTo(timeToFirstWindow);
+    }
+
+    @Test
+    public void toJsonEscapesStringsAndIncludesAllPhases() {
+        var timeline = new StartupTimeline();
+        long now = System.nanoTime();
+
+        timeline.record("first \"phase\"", "com.example.Controller", now, now + 1_000);
+        timeline.record("second", now + 2_000, now + 3_000);
+
+        String json = timeline.toJson();
+
+        assertThat(json)
+                .startsWith("{\"timeToFirstWindowNanos\":-1,\"discardedPhases\":0,\"phases\":[")
+                .contains("\"name\":\"first \\\"phase\\\"\",\"detail\":\"com.example.Controller\"")
+                .contains("\"name\":\"second\",\"detail\":null")
+                .contains("\"durationNanos\":1000")
+                .endsWith("]}");
+    }
+
+    @Test
+    public void toTextContainsOneLinePerPhase() {
+        var timeline = new StartupTimeline();
+        long now = System.nanoTime();
+
+        timeline.record("phase", "detail", now, now + 1_500_000);
+
+        assertThat(timeline.toText().lines())
+                .hasSize(2)
+                .last()
+                .satisfies(line -> assertThat(line).contains("1.500 ms", "phase (detail)"));
+    }
+
+    @Test
+    public void recordDiscardsPhasesOverTheLimit() {
+        var timeline = new StartupTimeline();
+        long now = System.nanoTime();
+
+        for (int i = 0; i < StartupTimeline.MAX_PHASES + 5; i++) {
+            timeline.record("phase", now, now);
+        }
+
+        assertThat(timeline.getPhases()).hasSize(StartupTimeline.MAX_PHASES);
+        assertThat(timeline.getDiscardedPhaseCount()).isEqualTo(5);
+    }
+}
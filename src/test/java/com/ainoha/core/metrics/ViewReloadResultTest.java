@@ -0,0 +1,44 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViewReloadResultTest {
+
+    @Test
+    public void resultWithoutErrorIsSuccessful() {
+        var result = new ViewReloadResult(String.class, Duration.ofMillis(12), Duration.ofMillis(3), null);
+
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getError()).isEmpty();
+        assertThat(result.toString()).doesNotContain("error");
+    }
+
+    @Test
+    public void resultWithErrorIsNotSuccessful() {
+        var error = new IllegalStateException("Broken FXML");
+        var result = new ViewReloadResult(String.class, Duration.ofMillis(12), Duration.ZERO, error);
+
+        assertThat(result.isSuccessful()).isFalse();
+        assertThat(result.getError()).containsSame(error);
+        assertThat(result.toString()).contains("Broken FXML");
+    }
+}
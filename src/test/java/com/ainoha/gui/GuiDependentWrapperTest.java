@@ -1,5 +1,7 @@
 package com.ainoha.gui;
 
+import com.ainoha.internal.ViewBatchReloaderTest;
+import com.ainoha.internal.ViewOverlaysTest;
 import com.ainoha.internal.annotation.processors.CssPressedStyleOnTouchAnnotationProcessorTest;
 import com.ainoha.internal.annotation.processors.InputValidatorAnnotationProcessorTest;
 import com.ainoha.internal.annotation.processors.PostInitializeAnnotationProcessorTest;
@@ -44,4 +46,10 @@ public final class GuiDependentWrapperTest {
 
     @Nested
     class NestedStageUtilTest extends StageUtilTest { }
+
+    @Nested
+    class NestedViewOverlaysTest extends ViewOverlaysTest { }
+
+    @Nested
+    class NestedViewBatchReloaderTest extends ViewBatchReloaderTest { }
 }
@@ -0,0 +1,50 @@
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CachingClassLoaderTest {
+
+    @Test
+    public void ofReturnsTheSameInstanceForTheSameParent() {
+        var parent = getClass().getClassLoader();
+
+        assertThat(CachingClassLoader.of(parent))
+                .isSameAs(CachingClassLoader.of(parent));
+    }
+
+    @Test
+    public void loadClassIsResolvedOnlyOnce() throws Exception {
+        var loader = CachingClassLoader.of(getClass().getClassLoader());
+        long hitsBefore = CachingClassLoader.stats().getHitCount();
+
+        assertThat(loader.loadClass(CachingClassLoaderTest.class.getName()))
+                .isSameAs(CachingClassLoaderTest.class);
+        assertThat(loader.loadClass(CachingClassLoaderTest.class.getName()))
+                .isSameAs(CachingClassLoaderTest.class);
+
+        assertThat(CachingClassLoader.stats().getHitCount())
+                .isGreaterThanOrEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    public void loadClassRemembersNotFoundClasses() {
+        var loader = CachingClassLoader.of(getClass().getClassLoader());
+        String className = "not.existing.FakeClass";
+
+        assertThatThrownBy(() -> loader.loadClass(className))
+                .isInstanceOf(ClassNotFoundException.class)
+                .hasMessage(className);
+
+        long hitsBefore = CachingClassLoader.stats().getHitCount();
+
+        assertThatThrownBy(() -> loader.loadClass(className))
+                .isInstanceOf(ClassNotFoundException.class)
+                .hasMessage(className);
+
+        assertThat(CachingClassLoader.stats().getHitCount())
+                .isEqualTo(hitsBefore + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import test.fxapp.ViewTestController;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FxThreadWatchdogTest {
+
+    @BeforeAll
+    public static void loadControllerMetadata() throws Exception {
+        Method getControllerMetadata = FxmlViewHelper.class.getDeclaredMethod("getControllerMetadata", Class.class);
+        getControllerMetadata.setAccessible(true);
+        getControllerMetadata.invoke(null, ViewTestController.class);
+    }
+
+    @Test
+    public void findCulpritReturnsTheTopMostControllerFrame() {
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement("java.lang.Thread", "sleep", null, -1),
+                new StackTraceElement(ViewTestController.class.getName(), "postInit", null, 27),
+                new StackTraceElement(ViewTestController.class.getName(), "exit", null, 35),
+                new StackTraceElement("com.sun.javafx.application.PlatformImpl", "lambda$runLater$10", null, 428)
+        };
+
+        var culprit = FxThreadWatchdog.findCulprit(stackTrace);
+
+        assertThat(culprit).isNotNull();
+        assertThat(culprit.controllerClass).isEqualTo(ViewTestController.class);
+        assertThat(culprit.method).isEqualTo("@PostInitialize postInit()");
+    }
+
+    @Test
+    public void findCulpritAttributesInnerClassesToTheEnclosingController() {
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement(ViewTestController.class.getName() + "$1", "handle", null, 10)
+        };
+
+        var culprit = FxThreadWatchdog.findCulprit(stackTrace);
+
+        assertThat(culprit).isNotNull();
+        assertThat(culprit.controllerClass).isEqualTo(ViewTestController.class);
+        assertThat(culprit.method).isEqualTo("handle()");
+    }
+
+    @Test
+    public void findCulpritReturnsNullIfNoControllerIsInTheStack() {
+        StackTraceElement[] stackTrace = {
+                new StackTraceElement("java.lang.Thread", "sleep", null, -1)
+        };
+
+        assertThat(FxThreadWatchdog.findCulprit(stackTrace)).isNull();
+    }
+}
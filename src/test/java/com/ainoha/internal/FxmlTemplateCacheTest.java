@@ -0,0 +1,104 @@
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.URL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FxmlTemplateCacheTest {
+
+    @AfterEach
+    public void clearCache() {
+        FxmlTemplateCache.clear();
+    }
+
+    @Test
+    public void openReadsTheDocumentOnlyOnce() throws Exception {
+        URL viewURL = getClass().getResource("/test/fxapp/ViewTest.fxml");
+
+        byte[] expected;
+        try (InputStream in = viewURL.openStream()) {
+            expected = in.readAllBytes();
+        }
+
+        try (InputStream first = FxmlTemplateCache.open(viewURL);
+             InputStream second = FxmlTemplateCache.open(viewURL)) {
+
+            assertThat(first.readAllBytes()).isEqualTo(expected);
+            assertThat(second.readAllBytes()).isEqualTo(expected);
+        }
+
+        assertThat(FxmlTemplateCache.size())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void sizeIsKnownWithoutReadingTheDocument() throws Exception {
+        URL viewURL = getClass().getResource("/test/fxapp/ViewTest.fxml");
+
+        long size;
+        try (InputStream in = viewURL.openStream()) {
+            size = in.readAllBytes().length;
+        }
+
+        assertThat(FxmlTemplateCache.sizeOf(viewURL))
+                .isEqualTo(size);
+        assertThat(FxmlTemplateCache.size())
+                .isZero();
+    }
+
+    @Test
+    public void openFailsIfTheDocumentDoesNotExist() throws Exception {
+        URL viewURL = new URL(getClass().getResource("/test/fxapp/ViewTest.fxml"), "NotFound.fxml");
+
+        assertThatThrownBy(() -> FxmlTemplateCache.open(viewURL))
+                .isInstanceOf(FileNotFoundException.class);
+
+        assertThat(FxmlTemplateCache.size())
+                .isZero();
+    }
+
+    @Test
+    public void leastRecentlyOpenedDocumentsAreDiscardedWhenTheSizeIsExceeded() {
+        FxmlTemplateCache.cache("a.fxml", new byte[40], 100);
+        FxmlTemplateCache.cache("b.fxml", new byte[40], 100);
+        FxmlTemplateCache.cache("a.fxml", new byte[40], 100);
+        FxmlTemplateCache.cache("c.fxml", new byte[40], 100);
+
+        assertThat(FxmlTemplateCache.size())
+                .isEqualTo(2);
+        assertThat(FxmlTemplateCache.bytes())
+                .isEqualTo(80);
+    }
+
+    @Test
+    public void documentsLargerThanTheSizeAreNotCached() {
+        FxmlTemplateCache.cache("a.fxml", new byte[101], 100);
+
+        assertThat(FxmlTemplateCache.size())
+                .isZero();
+        assertThat(FxmlTemplateCache.bytes())
+                .isZero();
+    }
+
+    @Test
+    public void reloadedDocumentsReplaceTheReadOnes() throws Exception {
+        URL viewURL = getClass().getResource("/test/fxapp/ViewTest.fxml");
+        FxmlTemplateCache.open(viewURL).close();
+
+        FxmlTemplateCache.put(viewURL, new byte[] {'<', '>'});
+
+        try (InputStream in = FxmlTemplateCache.open(viewURL)) {
+            assertThat(in.readAllBytes()).containsExactly('<', '>');
+        }
+        assertThat(FxmlTemplateCache.sizeOf(viewURL))
+                .isEqualTo(2);
+        assertThat(FxmlTemplateCache.size())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HotReloaderTest {
+
+    private Path projectDir;
+    private Path sourceRoot;
+    private Path classesDir;
+
+    @BeforeEach
+    public void createProject() throws IOException {
+        projectDir = Files.createTempDirectory("ainoha-hot-reload");
+        sourceRoot = Files.createDirectories(projectDir.resolve("src/main/resources"));
+        classesDir = Files.createDirectories(projectDir.resolve("target/classes"));
+
+        for (Path root : List.of(sourceRoot, classesDir)) {
+            Files.createDirectories(root.resolve("com/app/views"));
+            Files.writeString(root.resolve("com/app/views/main.fxml"), "<AnchorPane/>");
+            Files.writeString(root.resolve("com/app/views/main.css"), ".root {}");
+        }
+    }
+
+    @AfterEach
+    public void deleteProject() throws IOException {
+        try (Stream<Path> files = Files.walk(projectDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void sourceFileOfAClasspathResourceIsFound() {
+        String url = classesDir.resolve("com/app/views/main.fxml").toUri().toString();
+
+        assertThat(HotReloader.toSourceFile(List.of(sourceRoot), url))
+                .contains(sourceRoot.resolve("com/app/views/main.fxml"));
+    }
+
+    @Test
+    public void sourceFileOfAResourceWithinAJarIsFound() {
+        String url = "jar:" + projectDir.resolve("app.jar").toUri() + "!/com/app/views/main.css";
+
+        assertThat(HotReloader.toSourceFile(List.of(sourceRoot), url))
+                .contains(sourceRoot.resolve("com/app/views/main.css"));
+    }
+
+    @Test
+    public void sourceFileOfABinaryStylesheetIsItsTextStylesheet() {
+        String url = classesDir.resolve("com/app/views/main.bss").toUri().toString();
+
+        assertThat(HotReloader.toSourceFile(List.of(sourceRoot), url))
+                .contains(sourceRoot.resolve("com/app/views/main.css"));
+    }
+
+    @Test
+    public void sourceFileIsItselfIfItIsWithinASourceDirectory() {
+        Path source = sourceRoot.resolve("com/app/views/main.css");
+
+        assertThat(HotReloader.toSourceFile(List.of(sourceRoot), source.toUri().toString())).contains(source);
+    }
+
+    @Test
+    public void resourcesWithoutSourceFileAreNotFound() {
+        String url = classesDir.resolve("com/app/views/other.fxml").toUri().toString();
+
+        assertThat(HotReloader.toSourceFile(List.of(sourceRoot), url)).isEmpty();
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InputLatencyMonitorTest {
+
+    private static class PaymentViewController {}
+
+    private static class ReceiptViewController {}
+
+    private static Pane view(String buttonId) {
+        Pane button = new Pane();
+        button.setId(buttonId);
+        return new VBox(button);
+    }
+
+    @Test
+    public void controlIdIsTakenFromTheNearestAncestorHavingAnId() {
+        Pane button = new Pane();
+        button.setId("payButton");
+        Region graphic = new Region();
+        button.getChildren().add(graphic);
+
+        assertThat(InputLatencyMonitor.controlId(PaymentViewController.class, graphic))
+                .isEqualTo("PaymentViewController#payButton");
+        assertThat(InputLatencyMonitor.controlId(PaymentViewController.class, new Region())).isNull();
+    }
+
+    @Test
+    public void inputsAreAttributedToTheViewShownInTheScene() {
+        Pane payment = view("okButton");
+        var scene = new Scene(payment);
+        InputLatencyMonitor.trackScene(scene, PaymentViewController.class);
+
+        // The stage shows another view in the same scene
+        Pane receipt = view("okButton");
+        scene.setRoot(receipt);
+        InputLatencyMonitor.trackScene(scene, ReceiptViewController.class);
+
+        assertThat(InputLatencyMonitor.controlId(receipt.getChildren().get(0)))
+                .isEqualTo("ReceiptViewController#okButton");
+        assertThat(InputLatencyMonitor.controlId(payment.getChildren().get(0)))
+                .isEqualTo("PaymentViewController#okButton");
+        assertThat(InputLatencyMonitor.controlId(new Region())).isNull();
+
+        // The view is reloaded
+        Pane reloaded = view("okButton");
+        scene.setRoot(reloaded);
+
+        assertThat(InputLatencyMonitor.controlId(reloaded.getChildren().get(0)))
+                .isEqualTo("ReceiptViewController#okButton");
+    }
+
+    @Test
+    public void onlyTheFirstInputOfEachControlIsMeasuredUntilThePulse() {
+        var pendingInputs = new InputLatencyMonitor.PendingInputs();
+        long nowNanos = System.nanoTime();
+
+        pendingInputs.add("PaymentViewController#cancelButton", nowNanos - 20_000_000);
+        pendingInputs.add("PaymentViewController#cancelButton", nowNanos);
+        pendingInputs.run();
+        pendingInputs.run();
+
+        var latency = InputLatencyMonitor.latencies().get("PaymentViewController#cancelButton");
+        assertThat(latency.getCount()).isEqualTo(1);
+        assertThat(latency.getMax().toMillis()).isGreaterThanOrEqualTo(19);
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Text;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ListResourceBundle;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class LocalizedTextsTest {
+
+    @AfterEach
+    public void clearCache() {
+        FxmlTemplateCache.clear();
+    }
+
+    private static ResourceBundle bundle(Object[][] contents) {
+        return new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return contents;
+            }
+        };
+    }
+
+    @Test
+    public void textsTakenFromTheResourcesAreUpdatedKeepingTheNodes() {
+        var english = bundle(new Object[][] {{"title", "Welcome"}, {"accept", "Accept"}, {"unused", "Unused"}});
+
+        Text title = new Text("Welcome");
+        Text accept = new Text("Accept");
+        Text counter = new Text("3 items");
+        Pane root = new VBox(title, new Pane(accept), counter);
+
+        var texts = LocalizedTexts.collect(root, english, Map.of("title", 1, "accept", 1));
+        assertThat(texts.size()).isEqualTo(2);
+
+        var spanish = bundle(new Object[][] {{"title", "Bienvenido"}, {"accept", "Aceptar"}});
+        assertThat(texts.apply(spanish)).isTrue();
+
+        assertThat(title.getText()).isEqualTo("Bienvenido");
+        assertThat(accept.getText()).isEqualTo("Aceptar");
+        assertThat(counter.getText()).isEqualTo("3 items");
+        assertThat(((Pane) root.getChildren().get(1)).getChildren()).containsExactly(accept);
+    }
+
+    @Test
+    public void textsWithAmbiguousKeysAreOnlyUpdatedIfTheNewValuesMatch() {
+        var english = bundle(new Object[][] {{"close", "Close"}, {"exit", "Close"}});
+
+        Text close = new Text("Close");
+        var texts = LocalizedTexts.collect(new Pane(close), english, Map.of("close", 1, "exit", 1));
+
+        assertThat(texts.apply(bundle(new Object[][] {{"close", "Cerrar"}, {"exit", "Salir"}}))).isFalse();
+        assertThat(close.getText()).isEqualTo("Close");
+
+        assertThat(texts.apply(bundle(new Object[][] {{"close", "Cerrar"}, {"exit", "Cerrar"}}))).isTrue();
+        assertThat(close.getText()).isEqualTo("Cerrar");
+    }
+
+    @Test
+    public void textsChangedAfterTheViewIsLoadedAreNotUpdated() {
+        var english = bundle(new Object[][] {{"status", "Ready"}, {"user", "Guest"}});
+        Text status = new Text("Ready");
+        Text user = new Text("Guest");
+        var texts = LocalizedTexts.collect(new Pane(status, user), english, Map.of("status", 1, "user", 1));
+
+        status.setText("Printing...");
+        assertThat(texts.apply(bundle(new Object[][] {{"status", "Listo"}, {"user", "Invitado"}}))).isTrue();
+
+        assertThat(status.getText()).isEqualTo("Printing...");
+        assertThat(user.getText()).isEqualTo("Invitado");
+    }
+
+    @Test
+    public void textsNotReferencedByTheFxmlAreNotUpdated() {
+        var english = bundle(new Object[][] {{"title", "Welcome"}, {"status", "Ready"}});
+        Text status = new Text("Ready");
+        var texts = LocalizedTexts.collect(new Pane(status), english, Map.of("title", 1));
+
+        assertThat(texts.size()).isZero();
+        assertThat(texts.apply(bundle(new Object[][] {{"title", "Bienvenido"}, {"status", "Listo"}}))).isTrue();
+        assertThat(status.getText()).isEqualTo("Ready");
+    }
+
+    @Test
+    public void textsSetByTheControllerWithAResourceValueMakeTheTextsAmbiguous() {
+        var english = bundle(new Object[][] {{"accept", "OK"}});
+        Text accept = new Text("OK");
+        // i.e. a status taken from the application data
+        Text status = new Text("OK");
+        var texts = LocalizedTexts.collect(new Pane(accept, status), english, Map.of("accept", 1));
+
+        assertThat(texts.apply(bundle(new Object[][] {{"accept", "Aceptar"}}))).isFalse();
+        assertThat(accept.getText()).isEqualTo("OK");
+        assertThat(status.getText()).isEqualTo("OK");
+    }
+
+    @Test
+    public void keyReferencesIncludeTheIncludedDocuments() throws IOException {
+        Path dir = Files.createTempDirectory("ainoha-texts");
+        Files.writeString(dir.resolve("main.fxml"), "<VBox xmlns:fx=\"http://javafx.com/fxml\">\n"
+                + "  <Label text=\"%title\"/>\n"
+                + "  <Label text=\"%%literal\"/>\n"
+                + "  <Label><text>%status</text></Label>\n"
+                + "  <fx:include source=\"part.fxml\"/>\n"
+                + "</VBox>\n");
+        Files.writeString(dir.resolve("part.fxml"), "<HBox>\n"
+                + "  <TextField promptText=\"%search\"/>\n"
+                + "  <Button text='%title'/>\n"
+                + "</HBox>\n");
+
+        var references = LocalizedTexts.keyReferences(dir.resolve("main.fxml").toUri().toURL());
+
+        assertThat(references).containsOnly(entry("title", 2), entry("status", 1), entry("search", 1));
+    }
+
+    @Test
+    public void textsAreFoundTheFirstTimeTheyAreNeeded() throws IOException {
+        Path fxml = Files.createTempFile("ainoha-texts", ".fxml");
+        Files.writeString(fxml, "<VBox><Text text=\"%title\"/></VBox>");
+        var english = bundle(new Object[][] {{"title", "Welcome"}});
+
+        Text title = new Text("Welcome");
+        Pane root = new VBox(title);
+        assertThat(LocalizedTexts.of(root)).isEmpty();
+
+        LocalizedTexts.remember(root, english, fxml.toUri().toURL());
+        var texts = LocalizedTexts.of(root);
+
+        assertThat(texts).isPresent();
+        assertThat(texts.get().size()).isEqualTo(1);
+        assertThat(LocalizedTexts.of(root)).containsSame(texts.get());
+    }
+}
@@ -0,0 +1,140 @@
+package com.ainoha.internal;
+
+import com.ainoha.core.annotation.FxmlController;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles sources with an annotation processor, for testing the framework processors. The framework classes are in
+ * the compilation class path.
+ */
+public final class TestCompilation {
+
+    private final Path outputDir;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private final boolean success;
+
+    private TestCompilation(Path outputDir, List<Diagnostic<? extends JavaFileObject>> diagnostics, boolean success) {
+        this.outputDir = outputDir;
+        this.diagnostics = diagnostics;
+        this.success = success;
+    }
+
+    /**
+     * @param files Files to write into a new source directory (i.e. {@code app/Main.java}), by relative path
+     *
+     * @return The source directory
+     */
+    public static Path sourceDir(Map<String, String> files) throws IOException {
+        Path sourceDir = Files.createTempDirectory("ainoha-src");
+        write(sourceDir, files);
+        return sourceDir;
+    }
+
+    /**
+     * Writes {@code files} into {@code dir}.
+     *
+     * @param dir   Target directory
+     * @param files Files content, by relative path
+     */
+    public static void write(Path dir, Map<String, String> files) throws IOException {
+        for (var file : files.entrySet()) {
+            Path path = dir.resolve(file.getKey());
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file.getValue(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Compiles the Java files of {@code sourceDir} (using it as source path too) into {@code outputDir}. As Maven
+     * does, the classes already in {@code outputDir} are in the class path.
+     *
+     * @param sourceDir Source directory
+     * @param outputDir Output directory. Created if it does not exist
+     * @param processor Annotation processor
+     * @param options   Additional compiler options (i.e. {@code -Akey=value})
+     *
+     * @return Compilation result
+     */
+    public static TestCompilation compile(Path sourceDir, Path outputDir, Processor processor, String... options)
+            throws IOException {
+
+        Files.createDirectories(outputDir);
+
+        List<Path> javaFiles;
+        try (var paths = Files.walk(sourceDir)) {
+            javaFiles = paths.filter(path -> path.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+
+        List<String> compilerOptions = new ArrayList<>(List.of(
+                "-classpath", frameworkClasses() + File.pathSeparator + outputDir,
+                "-sourcepath", sourceDir.toString(),
+                "-d", outputDir.toString()
+        ));
+        compilerOptions.addAll(List.of(options));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                                                                                   StandardCharsets.UTF_8)) {
+            var task = compiler.getTask(null, fileManager, diagnostics, compilerOptions, null,
+                                        fileManager.getJavaFileObjectsFromPaths(javaFiles));
+            task.setProcessors(List.of(processor));
+            boolean success = task.call();
+            return new TestCompilation(outputDir, diagnostics.getDiagnostics(), success);
+        }
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    /**
+     * @param kind Diagnostic kind
+     *
+     * @return Messages of the diagnostics of {@code kind}
+     */
+    public List<String> messages(Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.getKind() == kind)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param relativePath File path relative to the output directory
+     *
+     * @return File content
+     */
+    public String outputFile(String relativePath) throws IOException {
+        return Files.readString(outputDir.resolve(relativePath), StandardCharsets.UTF_8);
+    }
+
+    private static Path frameworkClasses() {
+        try {
+            return Path.of(FxmlController.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import test.fxapp.ReloadTestController;
+
+import java.io.FileNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public abstract class ViewBatchReloaderTest {
+
+    /*
+        IMPORTANT!
+        ----------------
+        ALL tests of this class are running as part of class com.ainoha.gui.GuiDependentWrapperTest
+    */
+
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        var future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(3, TimeUnit.SECONDS);
+    }
+
+    private static Stage showing(ReloadTestController controller) {
+        var stage = new Stage();
+        stage.setScene(new Scene(FxmlViewHelper.loadFxmlViewAsParent(controller, true)));
+        return stage;
+    }
+
+    @Test
+    public void viewFailingToReloadKeepsItsRootAndItsControllerWired() throws Exception {
+        onFxThread(() -> {
+            var failing = new ReloadTestController();
+            var failingStage = showing(failing);
+            Parent failingRoot = failingStage.getScene().getRoot();
+            var failingLabel = failing.getLabel();
+
+            var reloaded = new ReloadTestController();
+            var reloadedStage = showing(reloaded);
+            Parent reloadedRoot = reloadedStage.getScene().getRoot();
+
+            failing.failNextInitialize();
+            var failed = ViewBatchReloader.reload(new ViewBatchReloader.PreparedView(failingStage, failing, 0, null));
+            var succeeded = ViewBatchReloader.reload(new ViewBatchReloader.PreparedView(reloadedStage, reloaded, 0, null));
+
+            assertThat(failed.isSuccessful()).isFalse();
+            assertThat(failed.getError()).containsInstanceOf(RuntimeException.class);
+            assertThat(failingStage.getScene().getRoot()).isSameAs(failingRoot);
+            assertThat(failing.getLabel()).isSameAs(failingLabel);
+            assertThat(failing.getLabel().getScene()).isSameAs(failingStage.getScene());
+
+            assertThat(succeeded.isSuccessful()).isTrue();
+            assertThat(reloadedStage.getScene().getRoot()).isNotSameAs(reloadedRoot);
+            assertThat(reloaded.getLabel().getScene()).isSameAs(reloadedStage.getScene());
+            return null;
+        });
+    }
+
+    @Test
+    public void viewWhoseFxmlCouldNotBeReadIsNotTouched() throws Exception {
+        onFxThread(() -> {
+            var controller = new ReloadTestController();
+            var stage = showing(controller);
+            Parent root = stage.getScene().getRoot();
+            var label = controller.getLabel();
+
+            var result = ViewBatchReloader.reload(new ViewBatchReloader.PreparedView(
+                    stage, controller, 0, new FileNotFoundException("ReloadTest.fxml")));
+
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.getSwapTime()).isEqualTo(Duration.ZERO);
+            assertThat(stage.getScene().getRoot()).isSameAs(root);
+            assertThat(controller.getLabel()).isSameAs(label);
+            return null;
+        });
+    }
+}
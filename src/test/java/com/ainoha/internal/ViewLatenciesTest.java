@@ -0,0 +1,33 @@
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ViewLatenciesTest {
+
+    private static class ShownController {}
+
+    private static class ReloadedController {}
+
+    @Test
+    public void latenciesAreRecordedPerControllerClass() {
+        ViewLatencies.recordShow(ShownController.class, 2_000_000);
+        ViewLatencies.recordShow(ShownController.class, 4_000_000);
+        ViewLatencies.recordReload(ReloadedController.class, 1_000_000);
+
+        assertThat(ViewLatencies.showLatencies().get(ShownController.class).getCount()).isEqualTo(2);
+        assertThat(ViewLatencies.showLatencies().get(ShownController.class).getMax()).isEqualTo(Duration.ofMillis(4));
+        assertThat(ViewLatencies.showLatencies()).doesNotContainKey(ReloadedController.class);
+        assertThat(ViewLatencies.reloadLatencies().get(ReloadedController.class).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void latenciesCannotBeModifiedFromOutside() {
+        assertThatThrownBy(() -> ViewLatencies.showLatencies().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.VBox;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public abstract class ViewOverlaysTest {
+
+    /*
+        IMPORTANT!
+        ----------------
+        ALL tests of this class are running as part of class com.ainoha.gui.GuiDependentWrapperTest
+    */
+
+    private static <T> T onFxThread(Callable<T> task) throws Exception {
+        var future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get(3, TimeUnit.SECONDS);
+    }
+
+    private static KeyEvent keyPressed() {
+        return new KeyEvent(KeyEvent.KEY_PRESSED, "", "", KeyCode.A, false, false, false, false);
+    }
+
+    @Test
+    public void overlayIsAddedOverTheSceneContentUntilItIsClosed() throws Exception {
+        onFxThread(() -> {
+            var root = new VBox(new TextField());
+            var scene = new Scene(root, 400, 300);
+            var view = new VBox(new Button("Accept"));
+            var closed = new AtomicInteger();
+
+            var overlay = ViewOverlays.show(scene, view);
+            overlay.setOnClosed(closed::incrementAndGet);
+
+            assertThat(overlay.isShowing()).isTrue();
+            assertThat(overlay.getView()).isSameAs(view);
+            assertThat(ViewOverlays.count(scene)).isEqualTo(1);
+            var layer = root.getChildren().get(root.getChildren().size() - 1);
+            assertThat(layer.getStyleClass()).contains(ViewOverlays.STYLE_CLASS);
+            assertThat(layer.isManaged()).isFalse();
+            assertThat(view.getParent()).isSameAs(layer);
+
+            overlay.close();
+            overlay.close();
+
+            assertThat(overlay.isShowing()).isFalse();
+            assertThat(ViewOverlays.count(scene)).isZero();
+            assertThat(root.getChildren()).doesNotContain(layer);
+            assertThat(closed.get()).isEqualTo(1);
+            return null;
+        });
+    }
+
+    @Test
+    public void keyEventsOnlyReachTheLastOverlay() throws Exception {
+        onFxThread(() -> {
+            var contentField = new TextField();
+            var scene = new Scene(new VBox(contentField), 400, 300);
+            var overlayField = new TextField();
+
+            var contentKeys = new AtomicInteger();
+            var overlayKeys = new AtomicInteger();
+            contentField.addEventHandler(KeyEvent.KEY_PRESSED, event -> contentKeys.incrementAndGet());
+            overlayField.addEventHandler(KeyEvent.KEY_PRESSED, event -> overlayKeys.incrementAndGet());
+
+            var overlay = ViewOverlays.show(scene, new VBox(overlayField));
+            Event.fireEvent(contentField, keyPressed());
+            Event.fireEvent(overlayField, keyPressed());
+
+            assertThat(contentKeys.get()).isZero();
+            assertThat(overlayKeys.get()).isEqualTo(1);
+
+            overlay.close();
+            Event.fireEvent(contentField, keyPressed());
+            assertThat(contentKeys.get()).isEqualTo(1);
+            return null;
+        });
+    }
+
+    @Test
+    public void sceneRootMustBeAPane() throws Exception {
+        onFxThread(() -> {
+            var scene = new Scene(new Group(), 400, 300);
+
+            assertThatThrownBy(() -> ViewOverlays.show(scene, new VBox()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            return null;
+        });
+    }
+}
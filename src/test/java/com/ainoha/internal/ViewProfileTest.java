@@ -0,0 +1,80 @@
+package com.ainoha.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ViewProfileTest {
+
+    @Test
+    public void firstShownViewOfEachSessionIsCountedAsFirstView() {
+        ViewProfile profile = new ViewProfile();
+        for (int i = 0; i < 3; i++) {
+            ViewProfile session = new ViewProfile();
+            session.recordShow(i == 0 ? "Login" : "Main");
+            session.recordShow("Settings");
+            profile.addAll(session);
+        }
+
+        assertThat(profile.likelyFirstViews(5)).containsExactly("Main", "Login");
+        assertThat(profile.likelyFirstViews(1)).containsExactly("Main");
+    }
+
+    @Test
+    public void likelyNextViewIsTheMostOftenOpenedAfterTheView() {
+        ViewProfile profile = new ViewProfile();
+        profile.recordShow("Main");
+        profile.recordShow("Settings");
+        profile.recordShow("Main");
+        profile.recordShow("Report");
+        profile.recordShow("Main");
+        profile.recordShow("Settings");
+        profile.recordShow("Settings");
+
+        assertThat(profile.likelyNextView("Main")).contains("Settings");
+        assertThat(profile.likelyNextView("Report")).contains("Main");
+        assertThat(profile.likelyNextView("Unknown")).isEmpty();
+    }
+
+    @Test
+    public void writtenProfileCanBeReadBack() throws IOException {
+        ViewProfile profile = new ViewProfile();
+        profile.recordShow("Main");
+        profile.recordShow("Settings");
+        profile.recordShow("Main");
+
+        StringWriter writer = new StringWriter();
+        profile.write(writer);
+        ViewProfile readProfile = ViewProfile.read(new StringReader(writer.toString()));
+
+        assertThat(writer.toString()).startsWith(ViewProfile.HEADER + "\n");
+        assertThat(readProfile.likelyFirstViews(5)).containsExactly("Main");
+        assertThat(readProfile.likelyNextView("Main")).contains("Settings");
+        assertThat(readProfile.likelyNextView("Settings")).contains("Main");
+    }
+
+    @Test
+    public void writeKeepsOnlyTheHighestCounts() throws IOException {
+        ViewProfile profile = new ViewProfile();
+        for (int i = 0; i <= ViewProfile.MAX_ENTRIES; i++) {
+            profile.recordShow("View" + i);
+        }
+        profile.recordShow("View0");
+
+        StringWriter writer = new StringWriter();
+        profile.write(writer);
+
+        assertThat(writer.toString().lines().count()).isEqualTo(ViewProfile.MAX_ENTRIES + 1);
+    }
+
+    @Test
+    public void readFailsIfALineIsInvalid() {
+        assertThatThrownBy(() -> ViewProfile.read(new StringReader("first\tMain\tmany\n")))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ainoha.internal.annotation.processors;
 
 import com.ainoha.core.annotation.CssPressedStyleOnTouch;
+import com.ainoha.core.annotation.MeasureInputLatency;
 import com.ainoha.core.annotation.PostInitialize;
 import com.ainoha.core.annotation.TableViewBinding;
 import com.ainoha.core.validators.InputValidator;
@@ -46,18 +47,28 @@ public class AnnotationProcessorHubTest {
                 .isExactlyInstanceOf(CssPressedStyleOnTouchAnnotationProcessor.class);
     }
 
+    @Test
+    public void registeredProcessorForMeasureInputLatencyAnnotation() {
+        var processorFound = AnnotationProcessorHub.forAnnotationClass(MeasureInputLatency.class);
+
+        assertThat(processorFound)
+                .isNotNull()
+                .isExactlyInstanceOf(MeasureInputLatencyAnnotationProcessor.class);
+    }
+
     @Test
     public void allRegisteredProcessors() {
         var processorClasses = AnnotationProcessorHub.registeredProcessorClasses();
 
         assertThat(processorClasses)
                 .isNotNull()
-                .hasSize(4)
+                .hasSize(5)
                 .containsExactlyInAnyOrder(
                         PostInitialize.class,
                         InputValidator.class,
                         TableViewBinding.class,
-                        CssPressedStyleOnTouch.class
+                        CssPressedStyleOnTouch.class,
+                        MeasureInputLatency.class
                 );
     }
 }
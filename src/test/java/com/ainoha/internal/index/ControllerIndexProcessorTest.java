@@ -0,0 +1,101 @@
+package com.ainoha.internal.index;
+
+import com.ainoha.internal.TestCompilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ControllerIndexProcessorTest {
+
+    private static final String MAIN_CONTROLLER = "package app;\n"
+            + "@com.ainoha.core.annotation.FxmlController(fxmlPath = \"main\", title = \"Main\")\n"
+            + "public class MainController {}\n";
+
+    private static final String SETTINGS_CONTROLLER = "package app;\n"
+            + "@com.ainoha.core.annotation.FxmlController(fxmlPath = \"/views/settings.fxml\")\n"
+            + "public class SettingsController {}\n";
+
+    @Test
+    public void indexListsTheControllersWithAbsolutePaths() throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", MAIN_CONTROLLER,
+                                                          "app/SettingsController.java", SETTINGS_CONTROLLER,
+                                                          "app/main.fxml", "<?xml version=\"1.0\"?>",
+                                                          "views/settings.fxml", "<?xml version=\"1.0\"?>"));
+
+        var compilation = TestCompilation.compile(sourceDir, sourceDir.resolve("out"), new ControllerIndexProcessor());
+
+        assertThat(compilation.isSuccess()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING)).isEmpty();
+
+        var entries = ControllerIndex.read(new StringReader(compilation.outputFile(ControllerIndex.RESOURCE_NAME)));
+        assertThat(entries).extracting(ControllerIndex.Entry::getControllerClassName)
+                .containsExactly("app.MainController", "app.SettingsController");
+        assertThat(entries.get(0).getFxmlPath()).isEqualTo("/app/main.fxml");
+        assertThat(entries.get(0).getTitle()).isEqualTo("Main");
+        assertThat(entries.get(1).getFxmlPath()).isEqualTo("/views/settings.fxml");
+    }
+
+    @Test
+    public void missingFxmlIsAWarningByDefault() throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", MAIN_CONTROLLER));
+
+        var compilation = TestCompilation.compile(sourceDir, sourceDir.resolve("out"), new ControllerIndexProcessor());
+
+        assertThat(compilation.isSuccess()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING))
+                .containsExactly("The FXML view file '/app/main.fxml' was not found");
+        assertThat(compilation.outputFile(ControllerIndex.RESOURCE_NAME)).contains("app.MainController");
+    }
+
+    @Test
+    public void missingFxmlIsAnErrorIfTheOptionSaysSo() throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", MAIN_CONTROLLER));
+
+        var compilation = TestCompilation.compile(sourceDir, sourceDir.resolve("out"), new ControllerIndexProcessor(),
+                                                  "-A" + ControllerIndexProcessor.MISSING_FXML_OPTION + "=error");
+
+        assertThat(compilation.isSuccess()).isFalse();
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR))
+                .containsExactly("The FXML view file '/app/main.fxml' was not found");
+    }
+
+    @Test
+    public void emptyFxmlPathIsAnError() throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", "package app;\n"
+                + "@com.ainoha.core.annotation.FxmlController(fxmlPath = \" \")\n"
+                + "public class MainController {}\n"));
+
+        var compilation = TestCompilation.compile(sourceDir, sourceDir.resolve("out"), new ControllerIndexProcessor());
+
+        assertThat(compilation.isSuccess()).isFalse();
+        assertThat(compilation.messages(Diagnostic.Kind.ERROR)).singleElement().asString()
+                .startsWith("The value of 'fxmlPath' parameter is empty");
+    }
+
+    @Test
+    public void incrementalCompilationKeepsTheControllersNotRecompiled() throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", MAIN_CONTROLLER,
+                                                          "app/SettingsController.java", SETTINGS_CONTROLLER,
+                                                          "app/main.fxml", "<?xml version=\"1.0\"?>",
+                                                          "views/settings.fxml", "<?xml version=\"1.0\"?>"));
+        Path outputDir = sourceDir.resolve("out");
+        TestCompilation.compile(sourceDir, outputDir, new ControllerIndexProcessor());
+
+        // Only MainController is recompiled, SettingsController is taken from the output directory
+        Path incrementalSourceDir = TestCompilation.sourceDir(Map.of("app/MainController.java", MAIN_CONTROLLER,
+                                                                     "app/main.fxml", "<?xml version=\"1.0\"?>"));
+        Files.delete(outputDir.resolve("app/MainController.class"));
+        var compilation = TestCompilation.compile(incrementalSourceDir, outputDir, new ControllerIndexProcessor());
+
+        assertThat(compilation.isSuccess()).isTrue();
+        var entries = ControllerIndex.read(new StringReader(compilation.outputFile(ControllerIndex.RESOURCE_NAME)));
+        assertThat(entries).extracting(ControllerIndex.Entry::getControllerClassName)
+                .containsExactlyInAnyOrder("app.MainController", "app.SettingsController");
+    }
+}
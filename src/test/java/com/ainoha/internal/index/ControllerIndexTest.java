@@ -0,0 +1,63 @@
+package com.ainoha.internal.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ControllerIndexTest {
+
+    @Test
+    public void writtenEntriesCanBeRead() throws Exception {
+        var entry = new ControllerIndex.Entry("com.app.MainController",
+                                              "/com/app/main.fxml",
+                                              "/app.png",
+                                              "main.title",
+                                              "Title with\ttab and \\ backslash");
+
+        String index = ControllerIndex.HEADER + "\n" + ControllerIndex.write(entry) + "\n";
+        var entries = ControllerIndex.read(new StringReader(index));
+
+        assertThat(entries).hasSize(1);
+        var readEntry = entries.get(0);
+        assertThat(readEntry.getControllerClassName()).isEqualTo(entry.getControllerClassName());
+        assertThat(readEntry.getFxmlPath()).isEqualTo(entry.getFxmlPath());
+        assertThat(readEntry.getIconPath()).isEqualTo(entry.getIconPath());
+        assertThat(readEntry.getTitleKey()).isEqualTo(entry.getTitleKey());
+        assertThat(readEntry.getTitle()).isEqualTo(entry.getTitle());
+    }
+
+    @Test
+    public void readEntryWithEmptyValues() throws Exception {
+        var entries = ControllerIndex.read(new StringReader("com.app.MainController\t/com/app/main.fxml\t\t\t\n"));
+
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getTitleKey()).isEmpty();
+        assertThat(entries.get(0).getTitle()).isEmpty();
+    }
+
+    @Test
+    public void readEntryWrittenByPreviousVersions() throws Exception {
+        var entries = ControllerIndex.read(new StringReader(
+                "com.app.MainController\t/com/app/main.fxml\t\t\tTitle\tstage@ViewStage\n"));
+
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getTitle()).isEqualTo("Title");
+    }
+
+    @Test
+    public void readFailsIfLineIsInvalid() {
+        assertThatThrownBy(() -> ControllerIndex.read(new StringReader("com.app.MainController\t/main.fxml\n")))
+                .hasMessageStartingWith("Invalid controllers index line");
+    }
+
+    @Test
+    public void entryForNotIndexedClassIsEmpty() {
+        ControllerIndex.load(getClass().getClassLoader());
+
+        assertThat(ControllerIndex.entryFor(ControllerIndexTest.class))
+                .isEmpty();
+    }
+}
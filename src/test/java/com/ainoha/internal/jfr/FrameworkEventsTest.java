@@ -0,0 +1,61 @@
+package com.ainoha.internal.jfr;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FrameworkEventsTest {
+
+    @Test
+    public void countNodesIncludesRootAndDescendants() {
+        var root = new Group(new Rectangle(), new Group(new Rectangle(), new Rectangle()));
+
+        assertThat(FrameworkEvents.countNodes(root)).isEqualTo(5);
+        assertThat(FrameworkEvents.countNodes(new Rectangle())).isEqualTo(1);
+    }
+
+    @Test
+    public void viewLoadEventIsRecorded() throws Exception {
+        Path recordingFile = Files.createTempFile("ainoha", ".jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable(ViewLoadEvent.NAME);
+            recording.start();
+
+            var event = new ViewLoadEvent();
+            event.begin();
+            event.end();
+            assertThat(event.shouldCommit()).isTrue();
+            event.controllerClass = FrameworkEventsTest.class;
+            event.fxmlPath = "/test/fxapp/ViewTest.fxml";
+            event.nodeCount = 3;
+            event.commit();
+
+            recording.stop();
+            recording.dump(recordingFile);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+            assertThat(events)
+                    .filteredOn(e -> e.getEventType().getName().equals(ViewLoadEvent.NAME))
+                    .hasSize(1)
+                    .first()
+                    .satisfies(e -> {
+                        assertThat(e.getClass("controllerClass").getName()).isEqualTo(FrameworkEventsTest.class.getName());
+                        assertThat(e.getString("fxmlPath")).isEqualTo("/test/fxapp/ViewTest.fxml");
+                        assertThat(e.getInt("nodeCount")).isEqualTo(3);
+                        assertThat(e.getEventType().getCategoryNames()).containsExactly(FrameworkEvents.CATEGORY);
+                    });
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.jmx;
+
+import com.ainoha.internal.ViewLatencies;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMX;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FrameworkMXBeanImplTest {
+
+    private static class ShownController {}
+
+    @Test
+    public void registeredMXBeanExposesTheFrameworkRuntimeState() throws Exception {
+        FrameworkMXBeanImpl.register();
+        FrameworkMXBeanImpl.register();
+
+        ViewLatencies.recordShow(ShownController.class, 3_000_000);
+
+        var server = ManagementFactory.getPlatformMBeanServer();
+        FrameworkMXBean proxy = JMX.newMXBeanProxy(server, new ObjectName(FrameworkMXBean.OBJECT_NAME),
+                                                   FrameworkMXBean.class);
+
+        assertThat(proxy.getViewShowCounts()).containsEntry(ShownController.class.getName(), 1L);
+        assertThat(proxy.getViewShowP99Millis().get(ShownController.class.getName())).isBetween(2.5, 3.5);
+        assertThat(proxy.getOpenViews()).isEmpty();
+        assertThat(proxy.getLoadedResourceBundles()).isEmpty();
+        assertThat(proxy.getBackgroundQueueSize()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void fxDispatchLatencyIsNegativeIfTheJavaFxRuntimeIsNotRunning() {
+        assertThat(new FrameworkMXBeanImpl().getFxDispatchLatencyMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    public void switchLocaleRejectsInvalidLanguageTags() {
+        assertThatThrownBy(() -> new FrameworkMXBeanImpl().switchLocale("???"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.lang;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledLanguageResourcesTest {
+
+    private static final String BASE_NAME = CompiledLanguageResourcesTest.class.getName() + "$messages";
+
+    // Classes as generated by LanguageResourcesProcessor
+    public static class messages$Compiled extends ListResourceBundle {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {{"title", "Welcome"}, {"help", "Help"}};
+        }
+    }
+
+    public static class messages_es$Compiled extends ListResourceBundle {
+        public messages_es$Compiled() {
+            setParent(new messages$Compiled());
+        }
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {{"title", "Bienvenido"}};
+        }
+    }
+
+    @Test
+    public void resourcesOfTheNearestCandidateLocaleAreReturnedWithTheirParents() {
+        ResourceBundle rb = CompiledLanguageResources.find(getClass().getClassLoader(), BASE_NAME,
+                                                           new Locale("es", "MX"));
+
+        assertThat(rb).isInstanceOf(messages_es$Compiled.class);
+        assertThat(rb.getString("title")).isEqualTo("Bienvenido");
+        assertThat(rb.getString("help")).isEqualTo("Help");
+    }
+
+    @Test
+    public void baseResourcesAreNotReturned() {
+        assertThat(CompiledLanguageResources.find(getClass().getClassLoader(), BASE_NAME, Locale.FRENCH)).isNull();
+    }
+
+    @Test
+    public void nothingIsReturnedIfTheResourcesAreNotCompiled() {
+        assertThat(CompiledLanguageResources.find(getClass().getClassLoader(), "language", Locale.ENGLISH)).isNull();
+    }
+
+    @Test
+    public void classNameIsTheBundleNameWithASuffix() {
+        assertThat(CompiledLanguageResources.bundleClassName("resources.lang.language", new Locale("es", "MX")))
+                .isEqualTo("resources.lang.language_es_MX$Compiled");
+        assertThat(CompiledLanguageResources.bundleClassName("language", Locale.ROOT)).isEqualTo("language$Compiled");
+    }
+}
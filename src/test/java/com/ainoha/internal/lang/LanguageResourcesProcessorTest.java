@@ -0,0 +1,192 @@
+/**
+ * Copyright 2019 Eduardo E. Betanzos Morales
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ainoha.internal.lang;
+
+import com.ainoha.internal.TestCompilation;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LanguageResourcesProcessorTest {
+
+    private static final String APP = "package app;\n"
+            + "@com.ainoha.core.annotation.FxApplication(langResourcesPackage = \"lang.messages\")\n"
+            + "public class App {}\n";
+
+    // As Maven copies them to the compiler output before compiling. tlh is not a Java available locale
+    private static final Map<String, String> LANGUAGES = Map.of(
+            "lang/messages.properties", "title=Welcome\nhelp=Help\n",
+            "lang/messages_es.properties", "title=Bienvenido\nhelp=Ayuda\n",
+            "lang/messages_es_MX.properties", "title=¡Bienvenido!\n",
+            "lang/messages_tlh.properties", "title=nuqneH\nhelp=QaH\n");
+
+    private static TestCompilation compileApp(Path outputDir, String... options) throws Exception {
+        Path sourceDir = TestCompilation.sourceDir(Map.of("app/App.java", APP));
+        return TestCompilation.compile(sourceDir, outputDir, new LanguageResourcesProcessor(), options);
+    }
+
+    @Test
+    public void languagesAreCompiledIfTheOptionSaysSo() throws Exception {
+        Path outputDir = Files.createTempDirectory("ainoha-out");
+        TestCompilation.write(outputDir, LANGUAGES);
+
+        var compilation = compileApp(outputDir, "-A" + LanguageResourcesProcessor.COMPILE_OPTION + "=true");
+
+        assertThat(compilation.isSuccess()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING)).isEmpty();
+        assertThat(compilation.outputFile("lang/messages_es_MX$Compiled.java"))
+                .contains("setParent(new lang.messages_es$Compiled());");
+
+        try (var classLoader = new URLClassLoader(new URL[] {outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            var mexican = CompiledLanguageResources.find(classLoader, "lang.messages", new Locale("es", "MX"));
+            assertThat(mexican.getClass().getName()).isEqualTo("lang.messages_es_MX$Compiled");
+            assertThat(mexican.getString("title")).isEqualTo("¡Bienvenido!");
+            assertThat(mexican.getString("help")).isEqualTo("Ayuda");
+
+            var argentinian = CompiledLanguageResources.find(classLoader, "lang.messages", new Locale("es", "AR"));
+            assertThat(argentinian.getClass().getName()).isEqualTo("lang.messages_es$Compiled");
+
+            var klingon = CompiledLanguageResources.find(classLoader, "lang.messages", new Locale("tlh"));
+            assertThat(klingon.getString("help")).isEqualTo("QaH");
+        }
+    }
+
+    @Test
+    public void outdatedCompiledLanguagesAreNotUsed() throws Exception {
+        Path outputDir = Files.createTempDirectory("ainoha-out");
+        TestCompilation.write(outputDir, LANGUAGES);
+        compileApp(outputDir, "-A" + LanguageResourcesProcessor.COMPILE_OPTION + "=true");
+
+        // Only the parent language is edited after the compilation
+        Files.setLastModifiedTime(outputDir.resolve("lang/messages_es.properties"),
+                                  FileTime.from(Instant.now().plusSeconds(60)));
+
+        try (var classLoader = new URLClassLoader(new URL[] {outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            assertThat(CompiledLanguageResources.find(classLoader, "lang.messages", new Locale("es", "MX"))).isNull();
+            assertThat(CompiledLanguageResources.find(classLoader, "lang.messages", new Locale("tlh"))).isNotNull();
+        }
+    }
+
+    @Test
+    public void languagesAreOnlyCheckedByDefault() throws Exception {
+        Path outputDir = Files.createTempDirectory("ainoha-out");
+        TestCompilation.write(outputDir, Map.of("lang/messages_en.properties", "title=Welcome\nhelp=Help\n",
+                                                "lang/messages_es.properties", "title=Bienvenido\n"));
+
+        var compilation = compileApp(outputDir);
+
+        assertThat(compilation.isSuccess()).isTrue();
+        assertThat(compilation.messages(Diagnostic.Kind.WARNING))
+                .containsExactly("The language resources 'lang.messages_es' do not define the keys [help] "
+                                 + "(defined in other languages)");
+        assertThat(outputDir.resolve("lang/messages_es$Compiled.java")).doesNotExist();
+    }
+
+    @Test
+    public void languagesAreSearchedInTheResourceDirectories() throws Exception {
+        Path outputDir = Files.createTempDirectory("ainoha-out");
+        Path resourcesDir = Files.createTempDirectory("ainoha-resources");
+        TestCompilation.write(resourcesDir, LANGUAGES);
+
+        var compilation = compileApp(outputDir, "-A" + LanguageResourcesProcessor.COMPILE_OPTION + "=true",
+                                     "-A" + LanguageResourcesProcessor.RESOURCE_DIRS_OPTION + "=" + resourcesDir);
+
+        assertThat(compilation.isSuccess()).isTrue();
+        assertThat(outputDir.resolve("lang/messages_tlh$Compiled.class")).exists();
+        assertThat(outputDir.resolve("lang/messages$Compiled.class")).exists();
+    }
+
+    @Test
+    public void localeIsTakenFromTheFileName() {
+        assertThat(LanguageResourcesProcessor.localeOf("lang.messages", "messages")).contains(Locale.ROOT);
+        assertThat(LanguageResourcesProcessor.localeOf("lang.messages", "messages_es_MX"))
+                .contains(new Locale("es", "MX"));
+        assertThat(LanguageResourcesProcessor.localeOf("lang.messages", "messages_en__POSIX"))
+                .contains(new Locale("en", "", "POSIX"));
+        assertThat(LanguageResourcesProcessor.localeOf("messages", "messages_sr_Latn_RS"))
+                .contains(new Locale.Builder().setLanguage("sr").setScript("Latn").setRegion("RS").build());
+        assertThat(LanguageResourcesProcessor.localeOf("messages", "messages_es_custom")).isEmpty();
+    }
+
+    @Test
+    public void missingKeysAreReportedTakingTheParentLanguagesIntoAccount() {
+        Map<Locale, Map<String, String>> languages = new LinkedHashMap<>();
+        languages.put(Locale.ROOT, Map.of("app", "App"));
+        languages.put(Locale.ENGLISH, Map.of("title", "Welcome", "help", "Help"));
+        languages.put(new Locale("es"), Map.of("title", "Bienvenido"));
+        languages.put(new Locale("es", "MX"), Map.of("help", "Ayuda"));
+
+        var missingKeys = LanguageResourcesProcessor.missingKeys("language", languages);
+
+        assertThat(missingKeys).containsOnlyKeys(new Locale("es"));
+        assertThat(missingKeys.get(new Locale("es"))).containsExactly("help");
+    }
+
+    @Test
+    public void parentIsTheNearestAvailableCandidateLocale() {
+        Set<Locale> available = Set.of(Locale.ROOT, new Locale("es"), new Locale("es", "MX"));
+
+        assertThat(LanguageResourcesProcessor.parentOf("language", new Locale("es", "MX"), available))
+                .contains(new Locale("es"));
+        assertThat(LanguageResourcesProcessor.parentOf("language", new Locale("es"), available)).contains(Locale.ROOT);
+        assertThat(LanguageResourcesProcessor.parentOf("language", Locale.ROOT, available)).isEmpty();
+        assertThat(LanguageResourcesProcessor.parentOf("language", Locale.FRENCH, Set.of(Locale.FRENCH))).isEmpty();
+    }
+
+    @Test
+    public void generatedSourceDefinesAListResourceBundleWithEscapedTexts() {
+        Map<String, String> messages = new TreeMap<>(Map.of("greeting", "\"Hola\"\n¿qué tal?"));
+
+        String source = LanguageResourcesProcessor.javaSource("resources.lang.language_es_MX",
+                                                              "resources.lang.language_es", messages);
+
+        assertThat(source)
+                .contains("package resources.lang;")
+                .contains("public class language_es_MX extends java.util.ListResourceBundle {")
+                .contains("setParent(new resources.lang.language_es());")
+                .contains("contents[0] = new Object[] {\"greeting\", \"\\\"Hola\\\"\\n\\u00bfqu\\u00e9 tal?\"};");
+    }
+
+    @Test
+    public void generatedSourceSplitsLargeBundlesInSeveralMethods() {
+        Map<String, String> messages = new TreeMap<>();
+        for (int i = 0; i < 2500; i++) {
+            messages.put("key" + i, "value" + i);
+        }
+
+        String source = LanguageResourcesProcessor.javaSource("language", null, messages);
+
+        assertThat(source)
+                .doesNotContain("package ")
+                .doesNotContain("setParent")
+                .contains("new Object[2500][]")
+                .contains("private static void contents2(Object[][] contents)")
+                .doesNotContain("contents3");
+    }
+}
@@ -1,11 +1,13 @@
 package com.ainoha.internal.utils;
 
 import com.ainoha.core.ApplicationContext;
+import com.ainoha.core.MessageSource;
 import org.junit.jupiter.api.Test;
 import test.fxapp.ViewControllersHub;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
@@ -71,7 +73,7 @@ public abstract class StageUtilTest {
         stage.setTitle("fake title");
 
         var mockAppContext = mock(ApplicationContext.class);
-        when(mockAppContext.getResourceBundle()).thenThrow(exceptionClass);
+        when(mockAppContext.getMessageSource()).thenThrow(exceptionClass);
 
         // `stageTitle` param (the last one) must be null or blank
         // in order to not be picked as window title
@@ -87,8 +89,7 @@ public abstract class StageUtilTest {
         stage.setTitle("fake title");
 
         var mockAppContext = mock(ApplicationContext.class);
-        when(mockAppContext.getResourceBundle()).thenReturn(null);
-        when(mockAppContext.getDefaultResourceBundle()).thenReturn(null);
+        when(mockAppContext.getMessageSource()).thenReturn(new MessageSource(Locale.ROOT, null, null));
 
         // `stageTitle` param (the last one) must be null or blank
         // in order to not be picked as window title
@@ -112,8 +113,7 @@ public abstract class StageUtilTest {
         } catch (IOException e) { /* Never will be thrown */ }
 
         var mockAppContext = mock(ApplicationContext.class);
-        when(mockAppContext.getResourceBundle()).thenReturn(null);
-        when(mockAppContext.getDefaultResourceBundle()).thenReturn(rb);
+        when(mockAppContext.getMessageSource()).thenReturn(new MessageSource(Locale.ROOT, null, rb));
 
         // `stageTitle` param (the last one) must be null or blank
         // in order to not be picked as window title
@@ -145,8 +145,7 @@ public abstract class StageUtilTest {
         } catch (IOException e) { /* Never will be thrown */ }
 
         var mockAppContext = mock(ApplicationContext.class);
-        when(mockAppContext.getResourceBundle()).thenReturn(rb);
-        when(mockAppContext.getDefaultResourceBundle()).thenReturn(defaultRb);
+        when(mockAppContext.getMessageSource()).thenReturn(new MessageSource(Locale.ROOT, rb, defaultRb));
 
         // `stageTitle` param (the last one) must be null or blank
         // in order to not be picked as window title
@@ -0,0 +1,30 @@
+package test.fxapp;
+
+import com.ainoha.core.Reloadable;
+import com.ainoha.core.annotation.FxmlController;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+
+@FxmlController(fxmlPath = "/test/fxapp/ReloadTest.fxml")
+public class ReloadTestController implements Reloadable {
+
+    @FXML private Label label;
+
+    private boolean failNextInitialize;
+
+    @FXML
+    private void initialize() {
+        if (failNextInitialize) {
+            failNextInitialize = false;
+            throw new IllegalStateException("The view could not be initialized");
+        }
+    }
+
+    public void failNextInitialize() {
+        failNextInitialize = true;
+    }
+
+    public Label getLabel() {
+        return label;
+    }
+}